@@ -0,0 +1,95 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.Application;
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.TestResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking and reactive engines side by side: each operation puts
+ * {@code inFlight} health checks in flight at once against a stub that
+ * answers after {@code latencyMillis}, over at most {@code connections}
+ * connections, and waits for all of them. The blocking engine parks a virtual
+ * thread per check; the reactive one queues them on a few event loops. Run
+ * with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args="CheckEngineBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CheckEngineBenchmark {
+
+    @Param({"blocking", "reactive"})
+    private String engine;
+
+    @Param({"1000", "10000"})
+    private int inFlight;
+
+    @Param({"2000"})
+    private int connections;
+
+    @Param({"50"})
+    private int latencyMillis;
+
+    private DisposableServer stub;
+    private ConfigurableApplicationContext context;
+    private CheckEngine checkEngine;
+    private CompiledCheck health;
+    private TestRunContext runContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Netty on its own event loops, so the stub keeps up with every connection without a thread each
+        stub = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/auth", (request, response) -> response.status(200)
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"token\":\"abc123\"}")))
+                        .get("/ping", (request, response) -> response.status(201)
+                                .sendString(Mono.delay(Duration.ofMillis(latencyMillis)).thenReturn("Created"))))
+                .bindNow();
+
+        // Arguments rather than default properties, which application.properties would override
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off", "--logging.level.root=WARN", "--history.enabled=false",
+                        "--dashboard.cache.ttl=0", "--checks.capture.policy=none",
+                        "--booker.base-url=http://127.0.0.1:" + stub.port(),
+                        "--checks.executor.max-concurrency=" + inFlight,
+                        "--http.pool.max-total=" + connections, "--http.pool.max-per-route=" + connections,
+                        "--checks.engine.reactive.max-connections=" + connections);
+        checkEngine = context.getBean(CheckEngines.class).get(engine);
+        health = context.getBean(CheckCatalog.class).get(ApiCheck.HEALTH.getId());
+        runContext = new TestRunContext(context.getBean(TargetRegistry.class).getDefault());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.disposeNow();
+    }
+
+    @Benchmark
+    public long healthChecksInFlight() {
+        return Flux.range(0, inFlight)
+                .flatMap(i -> checkEngine.run(health, runContext), inFlight)
+                .filter(TestResult::passed)
+                .count()
+                .block();
+    }
+}
@@ -0,0 +1,180 @@
+package com.restfulbooker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.restfulbooker.Application;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import com.restfulbooker.payload.RandomBookingSource;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Measures what the harness itself adds on top of the target API: the full
+ * check path against an in-process stub server, and its building blocks in
+ * isolation. Run with {@code mvn -Pbenchmark -DskipTests verify}; the GC
+ * profiler reports allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HarnessOverheadBenchmark {
+
+    private static final int LIST_SIZE = 1000;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+    private ApiTestService testService;
+    private TestRunContext runContext;
+
+    private String bookingList;
+    private byte[] bookingListBytes;
+
+    // Not final so the body concatenation cannot be constant-folded
+    private String firstname = "John";
+    private int totalprice = 150;
+
+    private final RandomBookingSource bookingSource =
+            new RandomBookingSource(42, 50, 1500, LocalDate.of(2025, 1, 1), 365, 14);
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+    private final TestResult result = constructTestResult();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StringBuilder list = new StringBuilder("[");
+        for (int i = 1; i <= LIST_SIZE; i++) {
+            list.append(i == 1 ? "" : ",").append("{\"bookingid\":").append(i).append('}');
+        }
+        bookingList = list.append(']').toString();
+        bookingListBytes = bookingList.getBytes(StandardCharsets.UTF_8);
+
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/ping", exchange -> respond(exchange, 201, "text/plain", "Created"));
+        stub.createContext("/auth", exchange -> respond(exchange, 200, "application/json", "{\"token\":\"abc123\"}"));
+        stub.createContext("/booking", exchange -> respond(exchange, 200, "application/json", bookingList));
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.start();
+
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN", "history.enabled=false",
+                        "booker.base-url=http://127.0.0.1:" + stub.getAddress().getPort())
+                .run();
+        testService = context.getBean(ApiTestService.class);
+        runContext = new TestRunContext(context.getBean(TargetRegistry.class).getDefault());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Benchmark
+    public TestResult healthCheckEndToEnd() {
+        return ApiCheck.HEALTH.run(testService, runContext);
+    }
+
+    @Benchmark
+    public TestResult getAllBookingsEndToEnd() {
+        return ApiCheck.GET_ALL_BOOKINGS.run(testService, runContext);
+    }
+
+    @Benchmark
+    public RequestSpecification buildRequest() {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Cookie", "token=abc123")
+                .body(bookingBody());
+    }
+
+    @Benchmark
+    public String serializeBody() {
+        return bookingBody();
+    }
+
+    @Benchmark
+    public byte[] generateBookingBody() {
+        return bookingSource.next();
+    }
+
+    @Benchmark
+    public int parseListWithJsonPath() {
+        return JsonPath.from(bookingList).getList("$").size();
+    }
+
+    @Benchmark
+    public int parseListStreaming() throws IOException {
+        return BookingListScanner.scan(new ByteArrayInputStream(bookingListBytes), 5, 1024).count();
+    }
+
+    @Benchmark
+    public TestResult constructTestResult() {
+        return new TestResult.Builder()
+                .setTestName("Health Check")
+                .setEndpoint("GET /ping")
+                .setStatus(CheckStatus.PASSED)
+                .setMessage("API is healthy and responding")
+                .setStatusCode(201)
+                .setResponseBody("Created")
+                .setDurationNanos(1_000_000L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writeTestResultJson() throws IOException {
+        return json.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] writeTestResultCbor() throws IOException {
+        return cbor.writeValueAsBytes(result);
+    }
+
+    private String bookingBody() {
+        return "{\n" +
+                "    \"firstname\": \"" + firstname + "\",\n" +
+                "    \"lastname\": \"Doe\",\n" +
+                "    \"totalprice\": " + totalprice + ",\n" +
+                "    \"depositpaid\": true,\n" +
+                "    \"bookingdates\": {\n" +
+                "        \"checkin\": \"2024-12-01\",\n" +
+                "        \"checkout\": \"2024-12-10\"\n" +
+                "    },\n" +
+                "    \"additionalneeds\": \"Breakfast\"\n" +
+                "}";
+    }
+}
@@ -0,0 +1,100 @@
+package com.restfulbooker.capture;
+
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies {@code checks.capture.policy} to finished results. A captured body
+ * goes into an off-heap {@link BodyRing} under the result's run id, and the
+ * result itself only carries a preview of at most {@code max-body-bytes}, so
+ * heap use stays the same however many checks run.
+ */
+@Service
+public class BodyCapture {
+
+    // Bytes of ring per index slot; bodies average well over this, so the index rarely evicts first
+    private static final int BYTES_PER_ENTRY = 256;
+
+    private final CaptureProperties.Policy policy;
+    private final int maxBodyBytes;
+    private final int maxStoredBytes;
+    private final int sampleRate;
+    // No ring at all when nothing is captured
+    private final BodyRing ring;
+    private final AtomicLong sampled = new AtomicLong();
+
+    public BodyCapture(CaptureProperties properties) {
+        long bufferSize = properties.getBufferSize().toBytes();
+        if (bufferSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("checks.capture.buffer-size must be under 2 GB");
+        }
+        if (properties.getMaxStoredBytes() > bufferSize / 4 || properties.getMaxBodyBytes() > bufferSize / 4) {
+            throw new IllegalStateException("checks.capture.buffer-size must hold at least four bodies of max-stored-bytes");
+        }
+        this.policy = properties.getPolicy();
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        this.maxStoredBytes = properties.getMaxStoredBytes();
+        this.sampleRate = Math.max(1, properties.getSampleRate());
+        this.ring = policy == CaptureProperties.Policy.NONE ? null
+                : new BodyRing((int) bufferSize, (int) Math.max(1024, bufferSize / BYTES_PER_ENTRY));
+    }
+
+    /**
+     * Bytes a streaming reader should keep from the start of a body for
+     * {@link #capture} to have everything the policy might store.
+     */
+    public int captureLimit() {
+        return switch (policy) {
+            case NONE -> 0;
+            case HEAD -> maxBodyBytes;
+            case FAILURES, SAMPLED -> maxStoredBytes;
+        };
+    }
+
+    /**
+     * Stores what the policy keeps of {@code body} (its first {@code length}
+     * bytes were read, out of {@code totalBytes}) and sets the result's preview.
+     */
+    public void capture(TestResult.Builder result, byte[] body, int length, long totalBytes) {
+        if (body == null) {
+            return;
+        }
+        int limit = switch (policy) {
+            case NONE -> 0;
+            case HEAD -> maxBodyBytes;
+            case FAILURES -> result.getStatus() == CheckStatus.FAILED ? maxStoredBytes : 0;
+            case SAMPLED -> sampled.getAndIncrement() % sampleRate == 0 ? maxStoredBytes : 0;
+        };
+        if (limit == 0) {
+            return;
+        }
+        int stored = Math.min(limit, length);
+        ring.put(result.getRunId(), body, stored);
+        result.setBodyCaptured(true);
+
+        int shown = Math.min(stored, maxBodyBytes);
+        // Cut before a character that does not fit whole; UTF-8 continuation bytes are 10xxxxxx
+        while (shown > 0 && shown < length && (body[shown] & 0xC0) == 0x80) {
+            shown--;
+        }
+        String preview = new String(body, 0, shown, StandardCharsets.UTF_8);
+        result.setResponseBody(shown < totalBytes ? preview + "... (" + totalBytes + " bytes total)" : preview);
+    }
+
+    /**
+     * Returns the stored body of a run, or 404 once it has been overwritten.
+     */
+    public String get(long runId) {
+        byte[] body = ring != null ? ring.get(runId) : null;
+        if (body == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No captured body for run " + runId);
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
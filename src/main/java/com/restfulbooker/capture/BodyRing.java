@@ -0,0 +1,71 @@
+package com.restfulbooker.capture;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size ring of captured bodies in one direct buffer, so captures never
+ * grow the heap. Each record is {@code [run id][length][bytes]}; a record that
+ * would run past the end starts over at the beginning instead of wrapping.
+ * A small on-heap index maps run ids to absolute write positions, and a record
+ * is gone once the writer has gone a full lap past it.
+ */
+final class BodyRing {
+
+    private static final int HEADER = Long.BYTES + Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final long[] ids;
+    private final long[] positions;
+    private int next;
+    private int indexed;
+    private long head;
+
+    BodyRing(int capacity, int maxEntries) {
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.capacity = capacity;
+        this.ids = new long[maxEntries];
+        this.positions = new long[maxEntries];
+    }
+
+    synchronized void put(long id, byte[] body, int length) {
+        int size = HEADER + length;
+        if (size > capacity) {
+            throw new IllegalArgumentException("Body of " + length + " bytes does not fit a " + capacity + " byte ring");
+        }
+        int at = (int) (head % capacity);
+        if (at + size > capacity) {
+            head += capacity - at;
+            at = 0;
+        }
+        buffer.putLong(at, id);
+        buffer.putInt(at + Long.BYTES, length);
+        buffer.put(at + HEADER, body, 0, length);
+        ids[next] = id;
+        positions[next] = head;
+        next = (next + 1) % ids.length;
+        indexed = Math.min(indexed + 1, ids.length);
+        head += size;
+    }
+
+    /**
+     * Returns a copy of the body stored for {@code id}, or null if it was never
+     * stored or has been overwritten since.
+     */
+    synchronized byte[] get(long id) {
+        for (int i = 1; i <= indexed; i++) {
+            int slot = Math.floorMod(next - i, ids.length);
+            if (positions[slot] < head - capacity) {
+                // This record and every older one have been written over
+                return null;
+            }
+            if (ids[slot] == id) {
+                int at = (int) (positions[slot] % capacity);
+                byte[] body = new byte[buffer.getInt(at + Long.BYTES)];
+                buffer.get(at + HEADER, body);
+                return body;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.restfulbooker.capture;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Response body capture settings from {@code checks.capture.*}: which bodies
+ * are kept, how much of each, and how much off-heap memory holds them.
+ */
+@Component
+@ConfigurationProperties(prefix = "checks.capture")
+public class CaptureProperties {
+
+    public enum Policy { NONE, HEAD, FAILURES, SAMPLED }
+
+    private Policy policy = Policy.HEAD;
+    private int maxBodyBytes = 1024;
+    private int maxStoredBytes = 64 * 1024;
+    private int sampleRate = 10;
+    private DataSize bufferSize = DataSize.ofMegabytes(16);
+
+    // Getters and Setters
+    // none, head (first max-body-bytes of every body), failures (whole body of failed checks) or sampled (whole body of 1 in sample-rate)
+    public Policy getPolicy() { return policy; }
+    public void setPolicy(Policy policy) { this.policy = policy; }
+
+    // Size of the head policy's capture, and of the preview put on results
+    public int getMaxBodyBytes() { return maxBodyBytes; }
+    public void setMaxBodyBytes(int maxBodyBytes) { this.maxBodyBytes = maxBodyBytes; }
+
+    // Cap on a "whole" body under the failures and sampled policies
+    public int getMaxStoredBytes() { return maxStoredBytes; }
+    public void setMaxStoredBytes(int maxStoredBytes) { this.maxStoredBytes = maxStoredBytes; }
+
+    public int getSampleRate() { return sampleRate; }
+    public void setSampleRate(int sampleRate) { this.sampleRate = sampleRate; }
+
+    // Off-heap ring holding captured bodies; the oldest are overwritten first
+    public DataSize getBufferSize() { return bufferSize; }
+    public void setBufferSize(DataSize bufferSize) { this.bufferSize = bufferSize; }
+}
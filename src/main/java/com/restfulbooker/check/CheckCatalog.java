@@ -0,0 +1,188 @@
+package com.restfulbooker.check;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restfulbooker.service.ApiCheck;
+import io.restassured.http.Method;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads check definitions from {@code checks.definitions} (YAML or JSON, each
+ * file holding a {@code checks} list) and compiles them once at startup. Later
+ * files may add checks or redefine earlier ones by id. Invalid definitions fail
+ * startup rather than the first run.
+ */
+@Service
+public class CheckCatalog {
+
+    static final Set<String> VARIABLES = Set.of("bookingId", "statusCode", "count", "invalid", "sampleIds");
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+    private final Map<String, CheckDefinition> definitions = new LinkedHashMap<>();
+    private final Map<String, CompiledCheck> checks = new LinkedHashMap<>();
+
+    public CheckCatalog(@Value("${checks.definitions:classpath:checks.yaml}") Resource[] sources) throws IOException {
+        for (Resource source : sources) {
+            for (CheckDefinition definition : load(source)) {
+                definitions.put(definition.getId(), definition);
+            }
+        }
+        definitions.values().forEach(definition -> checks.put(definition.getId(), compile(definition)));
+        for (CompiledCheck check : checks.values()) {
+            if (check.requires() != null && !checks.containsKey(check.requires())) {
+                throw new IllegalStateException("Check " + check.id() + " requires unknown check " + check.requires());
+            }
+        }
+        // A cycle would have every run of these checks recurse until the stack overflows
+        for (CompiledCheck check : checks.values()) {
+            List<String> chain = new ArrayList<>();
+            for (String id = check.id(); id != null; id = checks.get(id).requires()) {
+                if (chain.contains(id)) {
+                    chain.add(id);
+                    throw new IllegalStateException("Check " + check.id() + " has a requires cycle: "
+                            + String.join(" -> ", chain.subList(chain.indexOf(id), chain.size())));
+                }
+                chain.add(id);
+            }
+        }
+        for (ApiCheck builtIn : ApiCheck.values()) {
+            if (!checks.containsKey(builtIn.getId())) {
+                throw new IllegalStateException("No definition for built-in check " + builtIn.getId());
+            }
+        }
+    }
+
+    private static List<CheckDefinition> load(Resource source) throws IOException {
+        try (InputStream in = source.getInputStream()) {
+            Object tree = source.getFilename() != null && source.getFilename().endsWith(".json")
+                    ? MAPPER.readValue(in, Object.class)
+                    : new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+            if (!(tree instanceof Map<?, ?> root) || !(root.get("checks") instanceof List<?> list)) {
+                throw new IllegalStateException(source + " has no checks list");
+            }
+            List<CheckDefinition> loaded = new ArrayList<>();
+            for (Object entry : list) {
+                loaded.add(MAPPER.convertValue(entry, CheckDefinition.class));
+            }
+            return loaded;
+        }
+    }
+
+    static CompiledCheck compile(CheckDefinition definition) {
+        String id = definition.getId();
+        try {
+            if (id == null || id.isBlank() || definition.getName() == null || definition.getPath() == null) {
+                throw new IllegalArgumentException("id, name and path are required");
+            }
+            Method method = Method.valueOf(definition.getMethod().toUpperCase());
+            CheckDefinition.Expect expect = definition.getExpect();
+            boolean scan = definition.getScan() != null;
+            if (scan && !"booking-list".equals(definition.getScan())) {
+                throw new IllegalArgumentException("Unknown scan \"" + definition.getScan() + "\"");
+            }
+            if (definition.getBodySource() != null && !"booking".equals(definition.getBodySource())) {
+                throw new IllegalArgumentException("Unknown bodySource \"" + definition.getBodySource() + "\"");
+            }
+            if (scan && (!expect.getJson().isEmpty() || definition.getCaptureBookingId() != null)) {
+                throw new IllegalArgumentException("A scanned body cannot have JSON assertions or captures");
+            }
+
+            List<JsonAssertion> assertions = new ArrayList<>();
+            for (CheckDefinition.JsonExpectation json : expect.getJson()) {
+                JsonNode equals = json.getEquals() != null ? MAPPER.valueToTree(json.getEquals()) : null;
+                assertions.add(JsonAssertion.compile(json.getPath(), json.getExists(), equals, json.getType()));
+            }
+            byte[] body = definition.getBody() == null ? null
+                    : definition.getBody() instanceof String text ? text.getBytes(StandardCharsets.UTF_8)
+                    : MAPPER.writeValueAsBytes(definition.getBody());
+
+            return new CompiledCheck(id, definition.getName(),
+                    definition.getEndpoint() != null ? definition.getEndpoint() : method + " " + definition.getPath(),
+                    method,
+                    template(definition.getPath()),
+                    Map.copyOf(definition.getQuery()),
+                    body,
+                    definition.getBodySource() != null,
+                    definition.isAuth(),
+                    definition.getRequires(),
+                    scan,
+                    expect.getStatus(),
+                    List.copyOf(assertions),
+                    expect.isValidBookingIds(),
+                    definition.getCaptureBookingId() != null ? JsonAssertion.toPointer(definition.getCaptureBookingId()) : null,
+                    definition.isClearsBooking(),
+                    template(definition.getPass() != null ? definition.getPass() : "Expected response received"),
+                    template(definition.getFail() != null ? definition.getFail() : "Unexpected status code: {statusCode}"),
+                    policy(definition.getPolicy()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid check definition " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static CheckPolicy policy(CheckDefinition.Policy policy) {
+        if (policy == null) {
+            return CheckPolicy.DEFAULTS;
+        }
+        if (policy.getMaxAttempts() != null && policy.getMaxAttempts() < 1) {
+            throw new IllegalArgumentException("policy.maxAttempts must be at least 1");
+        }
+        return new CheckPolicy(duration(policy.getConnectTimeout()), duration(policy.getReadTimeout()),
+                policy.getMaxAttempts());
+    }
+
+    private static Duration duration(String text) {
+        if (text == null) {
+            return null;
+        }
+        Duration duration = DurationStyle.detectAndParse(text);
+        if (duration.isNegative() || duration.isZero() || duration.toMillis() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid timeout \"" + text + "\"");
+        }
+        return duration;
+    }
+
+    private static Template template(String text) {
+        Template template = Template.compile(text);
+        for (String variable : template.variables()) {
+            if (!VARIABLES.contains(variable)) {
+                throw new IllegalArgumentException("Unknown placeholder {" + variable + "} in \"" + text + "\"");
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Returns the compiled check, or 404 when no definition has that id.
+     */
+    public CompiledCheck get(String id) {
+        CompiledCheck check = checks.get(id);
+        if (check == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown check: " + id);
+        }
+        return check;
+    }
+
+    public List<CheckDefinition> getDefinitions() {
+        return List.copyOf(definitions.values());
+    }
+}
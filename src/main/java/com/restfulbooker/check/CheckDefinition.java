@@ -0,0 +1,147 @@
+package com.restfulbooker.check;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One check as written in a definitions file (see {@code checks.yaml}). Paths
+ * and messages may use {@code {bookingId}}, {@code {statusCode}} and, for
+ * {@code scan: booking-list}, {@code {count}}, {@code {invalid}} and {@code {sampleIds}}.
+ */
+public class CheckDefinition {
+    private String id;
+    private String name;
+    private String endpoint;
+    private String method = "GET";
+    private String path;
+    private Map<String, String> query = new LinkedHashMap<>();
+    private Object body;
+    private String bodySource;
+    private boolean auth;
+    private String requires;
+    private String scan;
+    private Expect expect = new Expect();
+    private String captureBookingId;
+    private boolean clearsBooking;
+    private String pass;
+    private String fail;
+    private Policy policy = new Policy();
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    // Label used in results; defaults to "<method> <path>"
+    public String getEndpoint() { return endpoint; }
+    public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public Map<String, String> getQuery() { return query; }
+    public void setQuery(Map<String, String> query) { this.query = query; }
+
+    // Any JSON value, serialized once when the check is compiled
+    public Object getBody() { return body; }
+    public void setBody(Object body) { this.body = body; }
+
+    // "booking" sends the next payload.source booking instead of body, when a source is configured
+    public String getBodySource() { return bodySource; }
+    public void setBodySource(String bodySource) { this.bodySource = bodySource; }
+
+    // Sends the target's auth token as a cookie, refreshing it once on a 403
+    public boolean isAuth() { return auth; }
+    public void setAuth(boolean auth) { this.auth = auth; }
+
+    // Check to run first when the run has no booking yet
+    public String getRequires() { return requires; }
+    public void setRequires(String requires) { this.requires = requires; }
+
+    // "booking-list" streams the body through the booking list scanner instead of buffering it
+    public String getScan() { return scan; }
+    public void setScan(String scan) { this.scan = scan; }
+
+    public Expect getExpect() { return expect; }
+    public void setExpect(Expect expect) { this.expect = expect; }
+
+    // JSONPath of the booking id to keep for later checks in the same run
+    public String getCaptureBookingId() { return captureBookingId; }
+    public void setCaptureBookingId(String captureBookingId) { this.captureBookingId = captureBookingId; }
+
+    public boolean isClearsBooking() { return clearsBooking; }
+    public void setClearsBooking(boolean clearsBooking) { this.clearsBooking = clearsBooking; }
+
+    public String getPass() { return pass; }
+    public void setPass(String pass) { this.pass = pass; }
+
+    public String getFail() { return fail; }
+    public void setFail(String fail) { this.fail = fail; }
+
+    public Policy getPolicy() { return policy; }
+    public void setPolicy(Policy policy) { this.policy = policy; }
+
+    public static class Expect {
+        private int status = 200;
+        private List<JsonExpectation> json = new ArrayList<>();
+        private boolean validBookingIds;
+
+        // Getters and Setters
+        public int getStatus() { return status; }
+        public void setStatus(int status) { this.status = status; }
+
+        public List<JsonExpectation> getJson() { return json; }
+        public void setJson(List<JsonExpectation> json) { this.json = json; }
+
+        // With scan: booking-list, fails when an entry has no integer bookingid
+        public boolean isValidBookingIds() { return validBookingIds; }
+        public void setValidBookingIds(boolean validBookingIds) { this.validBookingIds = validBookingIds; }
+    }
+
+    public static class JsonExpectation {
+        private String path;
+        private Boolean exists;
+        private Object equals;
+        private String type;
+
+        // Getters and Setters
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+
+        public Boolean getExists() { return exists; }
+        public void setExists(Boolean exists) { this.exists = exists; }
+
+        public Object getEquals() { return equals; }
+        public void setEquals(Object equals) { this.equals = equals; }
+
+        // One of string, number, boolean, object, array, null
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+    }
+
+    // Anything left out falls back to http.timeout.* and checks.policy.*
+    public static class Policy {
+        private String connectTimeout;
+        private String readTimeout;
+        private Integer maxAttempts;
+
+        // Getters and Setters
+        // Durations such as 500ms or 2s
+        public String getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(String connectTimeout) { this.connectTimeout = connectTimeout; }
+
+        public String getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(String readTimeout) { this.readTimeout = readTimeout; }
+
+        // Setting this also allows retries of methods that are not retried by default (POST, PATCH, DELETE)
+        public Integer getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(Integer maxAttempts) { this.maxAttempts = maxAttempts; }
+    }
+}
@@ -0,0 +1,12 @@
+package com.restfulbooker.check;
+
+import java.time.Duration;
+
+/**
+ * A check's own timeouts and attempt limit; {@code null} fields use the
+ * {@code http.timeout.*} and {@code checks.policy.*} defaults.
+ */
+public record CheckPolicy(Duration connectTimeout, Duration readTimeout, Integer maxAttempts) {
+
+    static final CheckPolicy DEFAULTS = new CheckPolicy(null, null, null);
+}
@@ -0,0 +1,44 @@
+package com.restfulbooker.check;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import io.restassured.http.Method;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link CheckDefinition} prepared for execution: the static body is already
+ * serialized, templates are split and JSONPaths are compiled to pointers, so
+ * running the check only fills in run-specific values.
+ */
+public record CompiledCheck(String id,
+                            String name,
+                            String endpoint,
+                            Method method,
+                            Template path,
+                            Map<String, String> query,
+                            byte[] body,
+                            boolean generatedBody,
+                            boolean auth,
+                            String requires,
+                            boolean scanBookingList,
+                            int expectedStatus,
+                            List<JsonAssertion> assertions,
+                            boolean validBookingIds,
+                            JsonPointer captureBookingId,
+                            boolean clearsBooking,
+                            Template pass,
+                            Template fail,
+                            CheckPolicy policy) {
+
+    // Whether the body has to be parsed as a JSON tree
+    public boolean needsJson() {
+        return !assertions.isEmpty() || captureBookingId != null;
+    }
+
+    // Neither changes the target nor depends on the run's booking, so one result can stand for many runs
+    public boolean readOnly() {
+        return (method == Method.GET || method == Method.HEAD) && requires == null && captureBookingId == null
+                && !clearsBooking && path.variables().isEmpty();
+    }
+}
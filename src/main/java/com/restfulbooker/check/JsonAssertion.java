@@ -0,0 +1,85 @@
+package com.restfulbooker.check;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Set;
+
+/**
+ * A JSONPath expectation compiled to a {@link JsonPointer}. Only plain member
+ * and index steps are supported ({@code $.booking.firstname}, {@code $[0].bookingid}).
+ */
+public record JsonAssertion(String path, JsonPointer pointer, Boolean exists, JsonNode equals, String type) {
+
+    private static final Set<String> TYPES = Set.of("string", "number", "boolean", "object", "array", "null");
+
+    public static JsonAssertion compile(String path, Boolean exists, JsonNode equals, String type) {
+        if (type != null && !TYPES.contains(type)) {
+            throw new IllegalArgumentException("Unknown type \"" + type + "\" for " + path);
+        }
+        return new JsonAssertion(path, toPointer(path), exists, equals, type);
+    }
+
+    static JsonPointer toPointer(String path) {
+        if (path == null || !path.startsWith("$")) {
+            throw new IllegalArgumentException("JSONPath must start with $: " + path);
+        }
+        StringBuilder pointer = new StringBuilder();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(i + 1, end);
+                if (name.isEmpty() || name.equals("*")) {
+                    throw new IllegalArgumentException("Unsupported JSONPath step in " + path);
+                }
+                pointer.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+                i = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                String index = end < 0 ? "" : path.substring(i + 1, end);
+                if (!index.matches("\\d+")) {
+                    throw new IllegalArgumentException("Unsupported JSONPath step in " + path);
+                }
+                pointer.append('/').append(index);
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Unsupported JSONPath step in " + path);
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * Returns why {@code root} does not meet the expectation, or null if it does.
+     */
+    public String check(JsonNode root) {
+        JsonNode node = root == null ? null : root.at(pointer);
+        boolean present = node != null && !node.isMissingNode();
+        if (exists != null && exists != present) {
+            return exists ? "Expected " + path + " to be present" : "Expected " + path + " to be absent";
+        }
+        if (equals != null && (!present || !equals.equals(node))) {
+            return "Expected " + path + " to be " + equals + " but was " + (present ? node : "missing");
+        }
+        if (type != null && (!present || !typeOf(node).equals(type))) {
+            return "Expected " + path + " to be a " + type + " but was " + (present ? typeOf(node) : "missing");
+        }
+        return null;
+    }
+
+    private static String typeOf(JsonNode node) {
+        return switch (node.getNodeType()) {
+            case STRING -> "string";
+            case NUMBER -> "number";
+            case BOOLEAN -> "boolean";
+            case ARRAY -> "array";
+            case NULL -> "null";
+            default -> "object";
+        };
+    }
+}
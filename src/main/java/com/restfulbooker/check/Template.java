@@ -0,0 +1,61 @@
+package com.restfulbooker.check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A string with {@code {name}} placeholders, split into literal and variable
+ * parts once so rendering is a single pass with no parsing.
+ */
+public final class Template {
+
+    private final String[] literals;
+    private final String[] variables;
+
+    private Template(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    public static Template compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = text.indexOf('{', position);
+            if (open < 0) {
+                break;
+            }
+            int close = text.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in \"" + text + "\"");
+            }
+            literals.add(text.substring(position, open));
+            variables.add(text.substring(open + 1, close));
+            position = close + 1;
+        }
+        literals.add(text.substring(position));
+        return new Template(literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    public Set<String> variables() {
+        return new LinkedHashSet<>(Arrays.asList(variables));
+    }
+
+    public String render(Function<String, Object> values) {
+        if (variables.length == 0) {
+            return literals[0];
+        }
+        StringBuilder out = new StringBuilder(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            Object value = values.apply(variables[i]);
+            out.append(value instanceof int[] ids ? Arrays.toString(ids) : String.valueOf(value));
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+}
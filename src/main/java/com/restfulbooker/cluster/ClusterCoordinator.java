@@ -0,0 +1,324 @@
+package com.restfulbooker.cluster;
+
+import com.restfulbooker.model.ClusterLoadProfile;
+import com.restfulbooker.model.ClusterRunStatus;
+import com.restfulbooker.model.LatencyStats;
+import com.restfulbooker.model.LoadProfile;
+import com.restfulbooker.model.WorkerAssignment;
+import com.restfulbooker.model.WorkerInfo;
+import com.restfulbooker.model.WorkerReport;
+import com.restfulbooker.model.WorkerRunStatus;
+import com.restfulbooker.service.LatencyStatsStore;
+import com.restfulbooker.service.LoadGenerator;
+import com.restfulbooker.service.TargetRegistry;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a load run across registered workers and merges what they report.
+ * Targets are dealt out to workers round-robin, and each target's rate and
+ * virtual users are shared evenly by the workers running it. Workers report
+ * counter increments and latency histograms every {@code report-interval};
+ * adding histograms loses nothing, so the merged percentiles are exactly what
+ * one node running the whole load would have measured.
+ */
+@Service
+public class ClusterCoordinator {
+
+    private static final String SCENARIO = "Booking CRUD scenario";
+
+    private final ClusterProperties properties;
+    private final ClusterClient client;
+    private final Map<String, WorkerInfo> workers = new ConcurrentHashMap<>();
+    private volatile ClusterRun currentRun;
+
+    public ClusterCoordinator(ClusterProperties properties) {
+        this.properties = properties;
+        this.client = new ClusterClient(properties.getRequestTimeout());
+    }
+
+    // Registration and heartbeat are the same call
+    public WorkerInfo register(WorkerInfo worker) {
+        if (worker.getId() == null || worker.getId().isBlank() || worker.getUrl() == null || worker.getUrl().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Workers register with an id and a url");
+        }
+        WorkerInfo registered = new WorkerInfo();
+        registered.setId(worker.getId());
+        registered.setUrl(worker.getUrl().replaceAll("/+$", ""));
+        registered.setLastSeen(System.currentTimeMillis());
+        registered.setLive(true);
+        workers.put(registered.getId(), registered);
+        return registered;
+    }
+
+    public List<WorkerInfo> workers() {
+        long now = System.currentTimeMillis();
+        List<WorkerInfo> all = new ArrayList<>();
+        // Copies, so callers never see or change the registered entries
+        for (WorkerInfo worker : workers.values()) {
+            WorkerInfo copy = new WorkerInfo();
+            copy.setId(worker.getId());
+            copy.setUrl(worker.getUrl());
+            copy.setLastSeen(worker.getLastSeen());
+            copy.setLive(now - worker.getLastSeen() <= lostAfterMillis());
+            all.add(copy);
+        }
+        all.sort((a, b) -> a.getId().compareTo(b.getId()));
+        return all;
+    }
+
+    public synchronized ClusterRunStatus start(ClusterLoadProfile profile) {
+        if (currentRun != null && currentRun.isRunning()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A cluster run is already in progress");
+        }
+        LoadGenerator.validate(profile);
+        List<WorkerInfo> selected = select(profile.getWorkers());
+        List<String> targets = !profile.getTargets().isEmpty() ? profile.getTargets()
+                : List.of(profile.getTarget() != null ? profile.getTarget() : TargetRegistry.DEFAULT_TARGET);
+        if (selected.size() < targets.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Need at least one worker per target: "
+                    + selected.size() + " live workers for " + targets.size() + " targets");
+        }
+
+        ClusterRun run = new ClusterRun(UUID.randomUUID().toString(), split(profile, targets, selected));
+        currentRun = run;
+        // All assignments go out at once, so the workers start together
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        for (Share share : run.shares.values()) {
+            WorkerAssignment assignment = new WorkerAssignment();
+            assignment.setRunId(run.runId);
+            assignment.setProfile(share.profile());
+            sent.add(client.post(share.worker().getUrl() + "/api/tests/cluster/assignment", assignment)
+                    .handle((status, error) -> {
+                        if (error != null) {
+                            run.fail(share, "Assignment failed: " + error.getMessage());
+                        } else if (status >= 300) {
+                            run.fail(share, "Worker answered HTTP " + status);
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).join();
+        return run.status();
+    }
+
+    public ClusterRunStatus stop() {
+        ClusterRun run = currentRun;
+        if (run == null) {
+            return idleStatus();
+        }
+        for (Share share : run.shares.values()) {
+            client.post(share.worker().getUrl() + "/api/tests/cluster/assignment/stop", Map.of())
+                    .exceptionally(e -> {
+                        run.fail(share, "Stop failed: " + e.getMessage());
+                        return null;
+                    });
+        }
+        return run.status();
+    }
+
+    public ClusterRunStatus status() {
+        ClusterRun run = currentRun;
+        return run == null ? idleStatus() : run.status();
+    }
+
+    /**
+     * Merges one worker's report into the current run.
+     *
+     * @throws ResponseStatusException with 404 if the report is for another run,
+     *                                 which tells the worker to stop reporting it
+     */
+    public void report(WorkerReport report) {
+        ClusterRun run = currentRun;
+        Share share = run != null && run.runId.equals(report.getRunId()) ? run.shares.get(report.getWorkerId()) : null;
+        if (share == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "No run " + report.getRunId() + " for worker " + report.getWorkerId());
+        }
+        try {
+            run.merge(share, report);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private List<WorkerInfo> select(List<String> ids) {
+        List<WorkerInfo> live = workers().stream().filter(WorkerInfo::isLive).toList();
+        if (ids == null || ids.isEmpty()) {
+            return live;
+        }
+        List<WorkerInfo> selected = new ArrayList<>();
+        for (String id : ids) {
+            WorkerInfo worker = live.stream().filter(w -> w.getId().equals(id)).findFirst()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "No live worker " + id));
+            selected.add(worker);
+        }
+        return selected;
+    }
+
+    private long lostAfterMillis() {
+        return properties.getHeartbeat().toMillis() * 3;
+    }
+
+    private ClusterRunStatus idleStatus() {
+        ClusterRunStatus status = new ClusterRunStatus();
+        status.setMessage("No cluster run has been started");
+        return status;
+    }
+
+    /**
+     * Worker {@code i} runs target {@code i % targets}; the {@code k} workers
+     * on a target each take {@code 1/k} of its rate and of its virtual users
+     * (at least one each).
+     */
+    static List<Share> split(LoadProfile profile, List<String> targets, List<WorkerInfo> workers) {
+        List<Share> shares = new ArrayList<>();
+        for (int t = 0; t < targets.size(); t++) {
+            List<WorkerInfo> onTarget = new ArrayList<>();
+            for (int i = t; i < workers.size(); i += targets.size()) {
+                onTarget.add(workers.get(i));
+            }
+            int k = onTarget.size();
+            for (int j = 0; j < k; j++) {
+                LoadProfile share = new LoadProfile();
+                share.setTarget(targets.get(t));
+                share.setTargetRps(profile.getTargetRps() / k);
+                share.setMaxVirtualUsers(Math.max(1, profile.getMaxVirtualUsers() / k
+                        + (j < profile.getMaxVirtualUsers() % k ? 1 : 0)));
+                share.setRampUpSeconds(profile.getRampUpSeconds());
+                share.setSteadySeconds(profile.getSteadySeconds());
+                share.setRampDownSeconds(profile.getRampDownSeconds());
+                share.setMaxDurationSeconds(profile.getMaxDurationSeconds());
+                shares.add(new Share(onTarget.get(j), share));
+            }
+        }
+        return shares;
+    }
+
+    record Share(WorkerInfo worker, LoadProfile profile) {
+    }
+
+    private class ClusterRun {
+        private final String runId;
+        private final long startMillis = System.currentTimeMillis();
+        private final Map<String, Share> shares = new LinkedHashMap<>();
+        private final Map<String, WorkerRunStatus> progress = new LinkedHashMap<>();
+        private final Histogram latency = new Histogram(3);
+        private final Map<String, Histogram> byTarget = new LinkedHashMap<>();
+        private final Map<String, Histogram> byCheck = new LinkedHashMap<>();
+        private volatile long endMillis;
+
+        ClusterRun(String runId, List<Share> split) {
+            this.runId = runId;
+            for (Share share : split) {
+                shares.put(share.worker().getId(), share);
+                WorkerRunStatus worker = new WorkerRunStatus();
+                worker.setWorkerId(share.worker().getId());
+                worker.setTarget(share.profile().getTarget());
+                worker.setTargetRps(share.profile().getTargetRps());
+                worker.setMaxVirtualUsers(share.profile().getMaxVirtualUsers());
+                worker.setRunning(true);
+                worker.setLastReport(startMillis);
+                progress.put(worker.getWorkerId(), worker);
+                byTarget.computeIfAbsent(worker.getTarget(), t -> new Histogram(3));
+            }
+        }
+
+        synchronized void fail(Share share, String error) {
+            WorkerRunStatus worker = progress.get(share.worker().getId());
+            worker.setRunning(false);
+            worker.setError(error);
+        }
+
+        synchronized void merge(Share share, WorkerReport report) {
+            Histogram interval = report.getLatency() != null ? HistogramCodec.decode(report.getLatency()) : null;
+            WorkerRunStatus worker = progress.get(share.worker().getId());
+            worker.setRunning(report.isRunning() || report.getInFlight() > 0);
+            worker.setInFlight(report.getInFlight());
+            worker.setStarted(worker.getStarted() + report.getStarted());
+            worker.setCompleted(worker.getCompleted() + report.getCompleted());
+            worker.setFailed(worker.getFailed() + report.getFailed());
+            worker.setDropped(worker.getDropped() + report.getDropped());
+            worker.setReports(worker.getReports() + 1);
+            worker.setLastReport(System.currentTimeMillis());
+            if (interval != null) {
+                latency.add(interval);
+                byTarget.get(worker.getTarget()).add(interval);
+            }
+            if (report.getChecks() != null) {
+                report.getChecks().forEach((check, encoded) ->
+                        byCheck.computeIfAbsent(check, c -> new Histogram(3)).add(HistogramCodec.decode(encoded)));
+            }
+        }
+
+        // A worker silent for three heartbeats is taken as gone
+        private boolean running(WorkerRunStatus worker, long now) {
+            if (worker.isRunning() && now - worker.getLastReport() > lostAfterMillis()) {
+                worker.setRunning(false);
+                worker.setError("No report for " + TimeUnit.MILLISECONDS.toSeconds(now - worker.getLastReport()) + "s");
+            }
+            return worker.isRunning();
+        }
+
+        synchronized boolean isRunning() {
+            long now = System.currentTimeMillis();
+            boolean running = false;
+            for (WorkerRunStatus worker : progress.values()) {
+                running |= running(worker, now);
+            }
+            if (!running && endMillis == 0) {
+                endMillis = now;
+            }
+            return running;
+        }
+
+        synchronized ClusterRunStatus status() {
+            boolean running = isRunning();
+            long now = System.currentTimeMillis();
+            ClusterRunStatus status = new ClusterRunStatus();
+            status.setRunId(runId);
+            status.setRunning(running);
+            status.setStartTime(startMillis);
+            status.setElapsed((running ? now : endMillis) - startMillis);
+            List<WorkerRunStatus> workerStatuses = new ArrayList<>();
+            int failedWorkers = 0;
+            for (WorkerRunStatus worker : progress.values()) {
+                status.setStarted(status.getStarted() + worker.getStarted());
+                status.setCompleted(status.getCompleted() + worker.getCompleted());
+                status.setFailed(status.getFailed() + worker.getFailed());
+                status.setDropped(status.getDropped() + worker.getDropped());
+                status.setInFlight(status.getInFlight() + worker.getInFlight());
+                failedWorkers += worker.getError() != null ? 1 : 0;
+                workerStatuses.add(worker);
+            }
+            status.setWorkers(workerStatuses);
+            status.setMessage((running ? "Running on " : "Finished on ") + progress.size() + " workers"
+                    + (failedWorkers > 0 ? ", " + failedWorkers + " with errors" : ""));
+
+            status.setLatency(LatencyStatsStore.toStats(SCENARIO, "load", latency, startMillis, now));
+            List<LatencyStats> targetStats = new ArrayList<>();
+            byTarget.forEach((target, histogram) -> {
+                LatencyStats stats = LatencyStatsStore.toStats(SCENARIO, "load", histogram, startMillis, now);
+                stats.setTarget(target);
+                targetStats.add(stats);
+            });
+            status.setTargets(targetStats);
+            List<LatencyStats> checkStats = new ArrayList<>();
+            byCheck.forEach((check, histogram) ->
+                    checkStats.add(LatencyStatsStore.toStats(check, null, histogram, startMillis, now)));
+            status.setChecks(checkStats);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.restfulbooker.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Distributed load settings from {@code cluster.*}. Every node can coordinate;
+ * a node with {@code coordinator-url} set also registers with that
+ * coordinator as a worker.
+ */
+@Component
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterProperties {
+
+    private String coordinatorUrl;
+    private String advertisedUrl;
+    private String workerId;
+    private Duration heartbeat = Duration.ofSeconds(5);
+    private Duration reportInterval = Duration.ofSeconds(1);
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    // Getters and Setters
+    public String getCoordinatorUrl() { return coordinatorUrl; }
+    public void setCoordinatorUrl(String coordinatorUrl) { this.coordinatorUrl = coordinatorUrl; }
+
+    // URL the coordinator reaches this worker on; http://localhost:<server port> if not set
+    public String getAdvertisedUrl() { return advertisedUrl; }
+    public void setAdvertisedUrl(String advertisedUrl) { this.advertisedUrl = advertisedUrl; }
+
+    // Defaults to the advertised URL's host and port
+    public String getWorkerId() { return workerId; }
+    public void setWorkerId(String workerId) { this.workerId = workerId; }
+
+    // How often workers re-register; a worker missing three heartbeats (or reports) counts as gone
+    public Duration getHeartbeat() { return heartbeat; }
+    public void setHeartbeat(Duration heartbeat) { this.heartbeat = heartbeat; }
+
+    public Duration getReportInterval() { return reportInterval; }
+    public void setReportInterval(Duration reportInterval) { this.reportInterval = reportInterval; }
+
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public void setRequestTimeout(Duration requestTimeout) { this.requestTimeout = requestTimeout; }
+}
@@ -0,0 +1,207 @@
+package com.restfulbooker.cluster;
+
+import com.restfulbooker.model.LoadStatus;
+import com.restfulbooker.model.WorkerAssignment;
+import com.restfulbooker.model.WorkerInfo;
+import com.restfulbooker.model.WorkerReport;
+import com.restfulbooker.service.LoadDelta;
+import com.restfulbooker.service.LoadGenerator;
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The worker half of a cluster run: registers with {@code cluster.coordinator-url}
+ * and keeps heartbeating, runs the share of a run it is assigned on the local
+ * {@link LoadGenerator}, and reports the run's deltas every
+ * {@code report-interval} until it is over. A report that does not get
+ * through is folded into the next one, so nothing is lost to a blip.
+ */
+@Service
+public class ClusterWorker {
+
+    @Autowired
+    private LoadGenerator loadGenerator;
+
+    private final ClusterProperties properties;
+    private final ClusterClient client;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cluster-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile String advertisedUrl;
+    private volatile String workerId;
+    private volatile boolean registered;
+    private volatile boolean warned;
+    private String runId;
+    private LoadDelta unsent;
+    private ScheduledFuture<?> reporting;
+
+    public ClusterWorker(ClusterProperties properties) {
+        this.properties = properties;
+        this.client = new ClusterClient(properties.getRequestTimeout());
+    }
+
+    @EventListener(WebServerInitializedEvent.class)
+    public void onWebServer(WebServerInitializedEvent event) {
+        advertisedUrl = properties.getAdvertisedUrl() != null
+                ? properties.getAdvertisedUrl().replaceAll("/+$", "")
+                : "http://localhost:" + event.getWebServer().getPort();
+        URI uri = URI.create(advertisedUrl);
+        workerId = properties.getWorkerId() != null ? properties.getWorkerId() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (isWorker() && advertisedUrl != null) {
+            scheduler.scheduleWithFixedDelay(this::heartbeat, 0, properties.getHeartbeat().toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Starts this worker's share of a cluster run.
+     *
+     * @throws ResponseStatusException with 409 if this node is not a worker or
+     *                                 is already running a load
+     */
+    public synchronized LoadStatus accept(WorkerAssignment assignment) {
+        if (!isWorker()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Not a cluster worker: cluster.coordinator-url is not set");
+        }
+        LoadStatus status = loadGenerator.start(assignment.getProfile());
+        if (reporting != null) {
+            reporting.cancel(false);
+        }
+        runId = assignment.getRunId();
+        unsent = null;
+        long interval = properties.getReportInterval().toMillis();
+        reporting = scheduler.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+        return status;
+    }
+
+    // Reporting carries on until the stopped run's final delta is through
+    public LoadStatus stop() {
+        return loadGenerator.stop();
+    }
+
+    private boolean isWorker() {
+        return properties.getCoordinatorUrl() != null && !properties.getCoordinatorUrl().isBlank();
+    }
+
+    private String coordinator(String path) {
+        return properties.getCoordinatorUrl().replaceAll("/+$", "") + path;
+    }
+
+    private void heartbeat() {
+        WorkerInfo info = new WorkerInfo();
+        info.setId(workerId);
+        info.setUrl(advertisedUrl);
+        try {
+            int status = client.postAndWait(coordinator("/api/tests/cluster/workers"), info);
+            if (status >= 300) {
+                throw new IOException("coordinator answered HTTP " + status);
+            }
+            if (!registered) {
+                System.err.println("Registered as cluster worker " + workerId + " with " + properties.getCoordinatorUrl());
+                registered = true;
+            }
+        } catch (IOException | RuntimeException e) {
+            // Logged once per outage rather than on every heartbeat. Runtime failures are caught
+            // too, since anything thrown out of a scheduled task cancels it
+            if (registered || !warned) {
+                System.err.println("Cluster worker " + workerId + " could not reach its coordinator: " + e.getMessage());
+            }
+            registered = false;
+            warned = true;
+        }
+    }
+
+    // Catches what sendReport throws unexpectedly, which would otherwise cancel the reports for good
+    private synchronized void report() {
+        try {
+            sendReport();
+        } catch (RuntimeException e) {
+            System.err.println("Report for run " + runId + " failed, will retry: " + e);
+        }
+    }
+
+    private void sendReport() {
+        LoadDelta delta = loadGenerator.delta();
+        if (delta == null) {
+            return;
+        }
+        unsent = unsent == null ? delta : merge(unsent, delta);
+        boolean last = !delta.running() && delta.inFlight() == 0;
+        try {
+            int status = client.postAndWait(coordinator("/api/tests/cluster/reports"), toReport(unsent));
+            if (status < 300) {
+                unsent = null;
+            } else if (status < 500) {
+                // The coordinator has moved on from this run
+                System.err.println("Coordinator refused report for run " + runId + " (HTTP " + status + "), stopping reports");
+                unsent = null;
+                last = true;
+            }
+        } catch (IOException e) {
+            System.err.println("Report for run " + runId + " not delivered, will retry: " + e.getMessage());
+        }
+        if (last && unsent == null) {
+            reporting.cancel(false);
+        }
+    }
+
+    private WorkerReport toReport(LoadDelta delta) {
+        WorkerReport report = new WorkerReport();
+        report.setRunId(runId);
+        report.setWorkerId(workerId);
+        report.setRunning(delta.running());
+        report.setInFlight(delta.inFlight());
+        report.setStarted(delta.started());
+        report.setCompleted(delta.completed());
+        report.setFailed(delta.failed());
+        report.setDropped(delta.dropped());
+        report.setLatency(HistogramCodec.encode(delta.latency()));
+        Map<String, String> checks = new LinkedHashMap<>();
+        delta.checks().forEach((check, histogram) -> checks.put(check, HistogramCodec.encode(histogram)));
+        report.setChecks(checks);
+        return report;
+    }
+
+    // An undelivered delta followed by a newer one: counters and histograms add up, state is the newer one's
+    static LoadDelta merge(LoadDelta older, LoadDelta newer) {
+        Histogram latency = older.latency().copy();
+        latency.add(newer.latency());
+        Map<String, Histogram> checks = new LinkedHashMap<>();
+        older.checks().forEach((check, histogram) -> checks.put(check, histogram.copy()));
+        newer.checks().forEach((check, histogram) -> checks.merge(check, histogram.copy(), (a, b) -> {
+            a.add(b);
+            return a;
+        }));
+        return new LoadDelta(newer.target(), newer.running(), newer.inFlight(),
+                older.started() + newer.started(), older.completed() + newer.completed(),
+                older.failed() + newer.failed(), older.dropped() + newer.dropped(), latency, checks);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
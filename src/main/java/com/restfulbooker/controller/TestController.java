@@ -1,9 +1,54 @@
 package com.restfulbooker.controller;
 
+import com.restfulbooker.capture.BodyCapture;
+import com.restfulbooker.cluster.ClusterCoordinator;
+import com.restfulbooker.cluster.ClusterWorker;
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CheckDefinition;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.history.ResultHistoryStore;
+import com.restfulbooker.service.ApiCheck;
 import com.restfulbooker.service.ApiTestService;
+import com.restfulbooker.service.BookerTarget;
+import com.restfulbooker.service.BookingSeeder;
+import com.restfulbooker.service.CheckCache;
+import com.restfulbooker.service.CheckEngine;
+import com.restfulbooker.service.CheckEngines;
+import com.restfulbooker.service.LatencyStatsStore;
+import com.restfulbooker.service.LiveUpdateService;
+import com.restfulbooker.service.LoadGenerator;
+import com.restfulbooker.service.SyntheticMonitor;
+import com.restfulbooker.service.TargetGuards;
+import com.restfulbooker.service.TargetRegistry;
+import com.restfulbooker.service.TestRunContext;
+import com.restfulbooker.service.TestSuiteRunner;
+import com.restfulbooker.model.CircuitStatus;
+import com.restfulbooker.model.ClusterLoadProfile;
+import com.restfulbooker.model.ClusterRunStatus;
+import com.restfulbooker.model.ConnectionPoolStats;
+import com.restfulbooker.model.HistorySeries;
+import com.restfulbooker.model.LatencyStats;
+import com.restfulbooker.model.LoadProfile;
+import com.restfulbooker.model.LoadStatus;
+import com.restfulbooker.model.ProbeStatus;
+import com.restfulbooker.model.SeedResult;
+import com.restfulbooker.model.SuiteResult;
 import com.restfulbooker.model.TestResult;
+import com.restfulbooker.model.WorkerAssignment;
+import com.restfulbooker.model.WorkerInfo;
+import com.restfulbooker.model.WorkerReport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/tests")
@@ -13,53 +58,287 @@ public class TestController {
     @Autowired
     private ApiTestService testService;
 
+    @Autowired
+    private CheckEngines engines;
+
+    @Autowired
+    private CheckCache checkCache;
+
+    @Autowired
+    private TestSuiteRunner suiteRunner;
+
+    @Autowired
+    private LoadGenerator loadGenerator;
+
+    @Autowired
+    private LatencyStatsStore latencyStats;
+
+    @Autowired
+    private TargetRegistry targets;
+
+    @Autowired
+    private LiveUpdateService liveUpdates;
+
+    @Autowired
+    private ResultHistoryStore history;
+
+    @Autowired
+    private SyntheticMonitor monitor;
+
+    @Autowired
+    private CheckCatalog catalog;
+
+    @Autowired
+    private BookingSeeder seeder;
+
+    @Autowired
+    private TargetGuards guards;
+
+    @Autowired
+    private BodyCapture bodyCapture;
+
+    @Autowired
+    private ClusterCoordinator coordinator;
+
+    @Autowired
+    private ClusterWorker worker;
+
+    @GetMapping("/targets")
+    public List<String> targets() {
+        return targets.getAll().stream().map(BookerTarget::getName).toList();
+    }
+
+    @GetMapping("/run-all")
+    public CompletableFuture<SuiteResult> runAll(@RequestParam(required = false) String target) {
+        return suiteRunner.runAll(targets.get(target));
+    }
+
+    // Runs the suite against each named target (all of them by default) concurrently
+    @GetMapping("/run-all/targets")
+    public CompletableFuture<List<SuiteResult>> runAllTargets(@RequestParam(required = false) List<String> names) {
+        List<BookerTarget> selected = names == null || names.isEmpty()
+                ? targets.getAll()
+                : names.stream().map(targets::get).toList();
+        return suiteRunner.runAll(selected);
+    }
+
+    @GetMapping("/stream")
+    public SseEmitter streamSuite(@RequestParam(required = false) String target) {
+        return liveUpdates.streamSuite(targets.get(target));
+    }
+
+    @GetMapping("/checks")
+    public List<CheckDefinition> checks() {
+        return catalog.getDefinitions();
+    }
+
+    // Runs any defined check by id, including ones added through checks.definitions
+    @GetMapping("/checks/{id}")
+    public CompletableFuture<TestResult> runCheck(@PathVariable String id, @RequestParam(required = false) String target,
+                                                  @RequestParam(required = false) String engine) {
+        return run(catalog.get(id), target, engine);
+    }
+
+    // Read-only checks are served from the cache, so many viewers share one upstream request
+    private CompletableFuture<TestResult> run(CompiledCheck check, String target, String engine) {
+        CheckEngine checkEngine = engines.get(engine);
+        TestRunContext context = testService.getSharedContext(target);
+        return checkCache.get(context.getTarget().getName(), checkEngine.getName(), check,
+                () -> checkEngine.run(check, context).toFuture());
+    }
+
+    @GetMapping("/engines")
+    public List<String> engines() {
+        return engines.getNames();
+    }
+
     @GetMapping("/health")
-    public TestResult runHealthCheck() {
-        return testService.testHealthCheck();
+    public CompletableFuture<TestResult> runHealthCheck(@RequestParam(required = false) String target,
+                                                        @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.HEALTH.getId()), target, engine);
     }
 
     @GetMapping("/create-booking")
-    public TestResult runCreateBooking() {
-        return testService.testCreateBooking();
+    public CompletableFuture<TestResult> runCreateBooking(@RequestParam(required = false) String target,
+                                                          @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.CREATE_BOOKING.getId()), target, engine);
     }
 
     @GetMapping("/get-booking")
-    public TestResult runGetBooking() {
-        return testService.testGetBooking();
+    public CompletableFuture<TestResult> runGetBooking(@RequestParam(required = false) String target,
+                                                       @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.GET_BOOKING.getId()), target, engine);
     }
 
     @GetMapping("/get-all-bookings")
-    public TestResult runGetAllBookings() {
-        return testService.testGetAllBookings();
+    public CompletableFuture<TestResult> runGetAllBookings(@RequestParam(required = false) String target,
+                                                           @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.GET_ALL_BOOKINGS.getId()), target, engine);
     }
 
     @GetMapping("/get-bookings-by-name")
-    public TestResult runGetBookingsByName() {
-        return testService.testGetBookingsByName();
+    public CompletableFuture<TestResult> runGetBookingsByName(@RequestParam(required = false) String target,
+                                                              @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.GET_BOOKINGS_BY_NAME.getId()), target, engine);
     }
 
     @GetMapping("/update-booking")
-    public TestResult runUpdateBooking() {
-        return testService.testUpdateBooking();
+    public CompletableFuture<TestResult> runUpdateBooking(@RequestParam(required = false) String target,
+                                                          @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.UPDATE_BOOKING.getId()), target, engine);
     }
 
     @GetMapping("/partial-update")
-    public TestResult runPartialUpdate() {
-        return testService.testPartialUpdate();
+    public CompletableFuture<TestResult> runPartialUpdate(@RequestParam(required = false) String target,
+                                                          @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.PARTIAL_UPDATE.getId()), target, engine);
     }
 
     @GetMapping("/delete-booking")
-    public TestResult runDeleteBooking() {
-        return testService.testDeleteBooking();
+    public CompletableFuture<TestResult> runDeleteBooking(@RequestParam(required = false) String target,
+                                                          @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.DELETE_BOOKING.getId()), target, engine);
     }
 
     @GetMapping("/invalid-data")
-    public TestResult runInvalidData() {
-        return testService.testInvalidData();
+    public CompletableFuture<TestResult> runInvalidData(@RequestParam(required = false) String target,
+                                                        @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.INVALID_DATA.getId()), target, engine);
     }
 
     @GetMapping("/non-existent")
-    public TestResult runNonExistent() {
-        return testService.testNonExistent();
+    public CompletableFuture<TestResult> runNonExistent(@RequestParam(required = false) String target,
+                                                        @RequestParam(required = false) String engine) {
+        return run(catalog.get(ApiCheck.NON_EXISTENT.getId()), target, engine);
+    }
+
+    @PostMapping("/load/start")
+    public LoadStatus startLoad(@RequestBody LoadProfile profile) {
+        return loadGenerator.start(profile);
+    }
+
+    @PostMapping("/load/stop")
+    public LoadStatus stopLoad() {
+        return loadGenerator.stop();
+    }
+
+    @GetMapping("/load/status")
+    public LoadStatus loadStatus() {
+        return loadGenerator.status();
+    }
+
+    @GetMapping("/load/stream")
+    public SseEmitter streamLoad() {
+        return liveUpdates.streamLoad();
+    }
+
+    // Cluster runs: the coordinator splits a load profile across registered workers and merges their reports
+    @PostMapping("/cluster/run")
+    public ClusterRunStatus startClusterRun(@RequestBody ClusterLoadProfile profile) {
+        return coordinator.start(profile);
+    }
+
+    @PostMapping("/cluster/run/stop")
+    public ClusterRunStatus stopClusterRun() {
+        return coordinator.stop();
+    }
+
+    @GetMapping("/cluster/run")
+    public ClusterRunStatus clusterRunStatus() {
+        return coordinator.status();
+    }
+
+    @GetMapping("/cluster/workers")
+    public List<WorkerInfo> clusterWorkers() {
+        return coordinator.workers();
+    }
+
+    // Called by workers: registration heartbeats and run reports
+    @PostMapping("/cluster/workers")
+    public WorkerInfo registerWorker(@RequestBody WorkerInfo info) {
+        return coordinator.register(info);
+    }
+
+    @PostMapping("/cluster/reports")
+    public void workerReport(@RequestBody WorkerReport report) {
+        coordinator.report(report);
+    }
+
+    // Called by the coordinator on a worker
+    @PostMapping("/cluster/assignment")
+    public LoadStatus acceptAssignment(@RequestBody WorkerAssignment assignment) {
+        return worker.accept(assignment);
+    }
+
+    @PostMapping("/cluster/assignment/stop")
+    public LoadStatus stopAssignment() {
+        return worker.stop();
+    }
+
+    @PostMapping("/seed")
+    public CompletableFuture<SeedResult> seed(@RequestParam int count,
+                                              @RequestParam(required = false) Integer concurrency,
+                                              @RequestParam(required = false) String target) {
+        return seeder.seed(targets.get(target), count, concurrency);
+    }
+
+    @PostMapping("/seed/teardown")
+    public CompletableFuture<SeedResult> teardown(@RequestParam(required = false) Integer concurrency,
+                                                  @RequestParam(required = false) String target) {
+        return seeder.teardown(targets.get(target), concurrency);
+    }
+
+    @GetMapping("/seed")
+    public Map<String, Integer> seeded() {
+        return seeder.tracked();
+    }
+
+    @GetMapping("/monitor")
+    public List<ProbeStatus> monitorStatus() {
+        return monitor.status();
+    }
+
+    // Captured body of one check execution, by the runId on its result
+    @GetMapping(value = "/bodies/{runId}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String body(@PathVariable long runId) {
+        return bodyCapture.get(runId);
+    }
+
+    @GetMapping("/stats")
+    public List<LatencyStats> stats() {
+        return latencyStats.snapshot();
+    }
+
+    @PostMapping("/stats/reset")
+    public List<LatencyStats> resetStats() {
+        return latencyStats.reset();
+    }
+
+    // from/to are epoch millis (default: the last 24 hours); step is a duration such as 30s, 5m or PT1H
+    @GetMapping("/history")
+    public List<HistorySeries> history(@RequestParam(required = false) String target,
+                                       @RequestParam(required = false) String test,
+                                       @RequestParam(required = false) Long from,
+                                       @RequestParam(required = false) Long to,
+                                       @RequestParam(required = false) String step) {
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - Duration.ofDays(1).toMillis();
+        Duration stepDuration;
+        try {
+            stepDuration = step != null && !step.isBlank() ? DurationStyle.detectAndParse(step) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid step: " + step);
+        }
+        return history.query(target, test, start, end, stepDuration);
+    }
+
+    @GetMapping("/circuits")
+    public List<CircuitStatus> circuits() {
+        return guards.status();
+    }
+
+    @GetMapping("/pool")
+    public ConnectionPoolStats poolStats(@RequestParam(required = false) String target) {
+        return targets.get(target).getPool().getStats();
     }
 }
\ No newline at end of file
@@ -0,0 +1,342 @@
+package com.restfulbooker.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for the Restful Booker API. Serves the same endpoints, status
+ * codes and token rules as the public instance, from an in-memory store, so
+ * suites and load runs can go full speed without leaving the machine.
+ */
+public class BookerEmulator implements AutoCloseable {
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final int HANDLER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    static {
+        // Headers and body go out in separate writes; without TCP_NODELAY every
+        // response waits out the client's delayed ACK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final BookingStore store = new BookingStore(mapper);
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final String username;
+    private final String password;
+    private final String basicAuth;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private BookerEmulator(HttpServer server, String username, String password) {
+        this.server = server;
+        this.username = username;
+        this.password = password;
+        this.basicAuth = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        // Platform threads, so the stand-in never competes with the harness's
+        // virtual threads for carriers when both run in the same JVM
+        this.executor = Executors.newFixedThreadPool(HANDLER_THREADS,
+                Thread.ofPlatform().name("booker-emulator-", 0).daemon().factory());
+        server.setExecutor(executor);
+        server.createContext("/ping", this::handlePing);
+        server.createContext("/auth", this::handleAuth);
+        server.createContext("/booking", this::handleBooking);
+    }
+
+    /**
+     * Starts an emulator on the loopback interface; port 0 picks a free port.
+     */
+    public static BookerEmulator start(int port, String username, String password) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        BookerEmulator emulator = new BookerEmulator(server, username, password);
+        server.start();
+        return emulator;
+    }
+
+    public static BookerEmulator start(int port) throws IOException {
+        return start(port, "admin", "password123");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public int getBookingCount() {
+        return store.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handlePing(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if ("GET".equals(exchange.getRequestMethod())) {
+                sendText(exchange, 201, "Created");
+            } else {
+                sendText(exchange, 404, "Not Found");
+            }
+        }
+    }
+
+    private void handleAuth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendText(exchange, 404, "Not Found");
+                return;
+            }
+            JsonNode body = readJson(exchange);
+            if (body != null
+                    && username.equals(body.path("username").asText(null))
+                    && password.equals(body.path("password").asText(null))) {
+                String token = newToken();
+                tokens.add(token);
+                sendJson(exchange, 200, "{\"token\":\"" + token + "\"}");
+            } else {
+                // The public API answers bad credentials with 200 and a reason
+                sendJson(exchange, 200, "{\"reason\":\"Bad credentials\"}");
+            }
+        }
+    }
+
+    private void handleBooking(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals("/booking") || path.equals("/booking/")) {
+                switch (method) {
+                    case "GET" -> list(exchange);
+                    case "POST" -> create(exchange);
+                    default -> sendText(exchange, 404, "Not Found");
+                }
+                return;
+            }
+            Integer id = parseId(path);
+            if (id == null) {
+                sendText(exchange, 404, "Not Found");
+                return;
+            }
+            switch (method) {
+                case "GET" -> get(exchange, id);
+                case "PUT" -> update(exchange, id, false);
+                case "PATCH" -> update(exchange, id, true);
+                case "DELETE" -> delete(exchange, id);
+                default -> sendText(exchange, 404, "Not Found");
+            }
+        }
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        List<Integer> ids = store.find(query.get("firstname"), query.get("lastname"));
+        StringBuilder json = new StringBuilder(ids.size() * 16 + 2).append('[');
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"bookingid\":").append(ids.get(i)).append('}');
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        JsonNode body = readJson(exchange);
+        if (body == null) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        ObjectNode fields = validBooking(body);
+        if (fields == null) {
+            sendText(exchange, 500, "Internal Server Error");
+            return;
+        }
+        BookingStore.Booking booking = store.create(fields);
+        byte[] prefix = ("{\"bookingid\":" + booking.id() + ",\"booking\":").getBytes(StandardCharsets.UTF_8);
+        byte[] json = booking.json();
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(200, prefix.length + json.length + 1);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(prefix);
+            out.write(json);
+            out.write('}');
+        }
+    }
+
+    private void get(HttpExchange exchange, int id) throws IOException {
+        BookingStore.Booking booking = store.get(id);
+        if (booking == null) {
+            sendText(exchange, 404, "Not Found");
+        } else {
+            send(exchange, 200, JSON, booking.json());
+        }
+    }
+
+    private void update(HttpExchange exchange, int id, boolean partial) throws IOException {
+        if (!authorized(exchange)) {
+            sendText(exchange, 403, "Forbidden");
+            return;
+        }
+        JsonNode body = readJson(exchange);
+        ObjectNode fields = body == null ? null
+                : partial ? (body instanceof ObjectNode object ? object : null)
+                : validBooking(body);
+        if (fields == null) {
+            sendText(exchange, 400, "Bad Request");
+            return;
+        }
+        BookingStore.Booking booking = store.update(id, fields, partial);
+        if (booking == null) {
+            // The public API answers writes to unknown ids with 405
+            sendText(exchange, 405, "Method Not Allowed");
+        } else {
+            send(exchange, 200, JSON, booking.json());
+        }
+    }
+
+    private void delete(HttpExchange exchange, int id) throws IOException {
+        if (!authorized(exchange)) {
+            sendText(exchange, 403, "Forbidden");
+        } else if (store.delete(id)) {
+            sendText(exchange, 201, "Created");
+        } else {
+            sendText(exchange, 405, "Method Not Allowed");
+        }
+    }
+
+    private boolean authorized(HttpExchange exchange) {
+        if (basicAuth.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            return true;
+        }
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies == null) {
+            return false;
+        }
+        for (String header : cookies) {
+            for (String cookie : header.split(";")) {
+                String trimmed = cookie.trim();
+                if (trimmed.startsWith("token=") && tokens.contains(trimmed.substring(6))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the booking in canonical field order, or null if a required field
+     * is missing or has the wrong type.
+     */
+    private ObjectNode validBooking(JsonNode body) {
+        JsonNode dates = body.path("bookingdates");
+        if (!body.path("firstname").isTextual()
+                || !body.path("lastname").isTextual()
+                || !body.path("totalprice").isNumber()
+                || !body.path("depositpaid").isBoolean()
+                || !dates.path("checkin").isTextual()
+                || !dates.path("checkout").isTextual()) {
+            return null;
+        }
+        ObjectNode booking = mapper.createObjectNode();
+        booking.set("firstname", body.get("firstname"));
+        booking.set("lastname", body.get("lastname"));
+        booking.set("totalprice", body.get("totalprice"));
+        booking.set("depositpaid", body.get("depositpaid"));
+        booking.putObject("bookingdates")
+                .put("checkin", dates.get("checkin").asText())
+                .put("checkout", dates.get("checkout").asText());
+        if (body.has("additionalneeds")) {
+            booking.set("additionalneeds", body.get("additionalneeds"));
+        }
+        return booking;
+    }
+
+    private JsonNode readJson(HttpExchange exchange) {
+        try {
+            JsonNode node = mapper.readTree(exchange.getRequestBody());
+            return node != null && node.isObject() ? node : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseId(String path) {
+        String id = path.substring("/booking/".length());
+        if (id.isEmpty() || id.length() > 9) {
+            return null;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (!Character.isDigit(id.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(id);
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String newToken() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder token = new StringBuilder(15);
+        for (int i = 0; i < 15; i++) {
+            token.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return token.toString();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, JSON, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, TEXT, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
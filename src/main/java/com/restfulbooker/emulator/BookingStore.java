@@ -0,0 +1,146 @@
+package com.restfulbooker.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory booking table with first and last name indexes. Each booking is
+ * kept together with its serialized JSON, so reads never re-serialize.
+ * Writes to one booking are serialized through {@link ConcurrentHashMap#compute},
+ * which also keeps the name indexes in step with the stored version.
+ */
+class BookingStore {
+
+    record Booking(int id, ObjectNode fields, byte[] json) {
+        String firstname() { return fields.path("firstname").asText(); }
+        String lastname() { return fields.path("lastname").asText(); }
+    }
+
+    private final ObjectMapper mapper;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> byFirstname = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> byLastname = new ConcurrentHashMap<>();
+
+    BookingStore(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    Booking create(ObjectNode fields) {
+        int id = nextId.getAndIncrement();
+        Booking booking = toBooking(id, fields);
+        bookings.put(id, booking);
+        index(booking);
+        return booking;
+    }
+
+    Booking get(int id) {
+        return bookings.get(id);
+    }
+
+    /**
+     * Replaces the booking's fields, or merges them when {@code partial}.
+     * Returns null if the booking does not exist.
+     */
+    Booking update(int id, ObjectNode fields, boolean partial) {
+        return bookings.computeIfPresent(id, (key, current) -> {
+            ObjectNode merged = partial ? current.fields().deepCopy() : fields;
+            if (partial) {
+                merge(merged, fields);
+            }
+            Booking updated = toBooking(id, merged);
+            unindex(current);
+            index(updated);
+            return updated;
+        });
+    }
+
+    boolean delete(int id) {
+        Booking removed = bookings.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+        return removed != null;
+    }
+
+    /**
+     * Ids of bookings matching the given names; a null name matches anything.
+     */
+    List<Integer> find(String firstname, String lastname) {
+        if (firstname == null && lastname == null) {
+            return new ArrayList<>(bookings.keySet());
+        }
+        Set<Integer> candidates = firstname != null ? lookup(byFirstname, firstname) : lookup(byLastname, lastname);
+        List<Integer> ids = new ArrayList<>(candidates.size());
+        for (Integer id : candidates) {
+            Booking booking = bookings.get(id);
+            if (booking != null
+                    && (firstname == null || firstname.equals(booking.firstname()))
+                    && (lastname == null || lastname.equals(booking.lastname()))) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    int size() {
+        return bookings.size();
+    }
+
+    private Booking toBooking(int id, ObjectNode fields) {
+        try {
+            return new Booking(id, fields, mapper.writeValueAsBytes(fields));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Booking is not serializable", e);
+        }
+    }
+
+    private static void merge(ObjectNode target, ObjectNode changes) {
+        changes.fields().forEachRemaining(field -> {
+            JsonNode existing = target.get(field.getKey());
+            if (existing instanceof ObjectNode nested && field.getValue() instanceof ObjectNode nestedChanges) {
+                merge(nested, nestedChanges);
+            } else {
+                target.set(field.getKey(), field.getValue());
+            }
+        });
+    }
+
+    private static Set<Integer> lookup(Map<String, Set<Integer>> index, String name) {
+        return index.getOrDefault(name, Collections.emptySet());
+    }
+
+    private void index(Booking booking) {
+        add(byFirstname, booking.firstname(), booking.id());
+        add(byLastname, booking.lastname(), booking.id());
+    }
+
+    private void unindex(Booking booking) {
+        remove(byFirstname, booking.firstname(), booking.id());
+        remove(byLastname, booking.lastname(), booking.id());
+    }
+
+    private static void add(Map<String, Set<Integer>> index, String name, int id) {
+        index.compute(name, (key, ids) -> {
+            Set<Integer> set = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            set.add(id);
+            return set;
+        });
+    }
+
+    private static void remove(Map<String, Set<Integer>> index, String name, int id) {
+        index.computeIfPresent(name, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
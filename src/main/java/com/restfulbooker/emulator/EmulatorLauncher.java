@@ -0,0 +1,47 @@
+package com.restfulbooker.emulator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Runs the local booker emulator alongside the dashboard when
+ * {@code booker.emulator.enabled=true} (the {@code emulator} profile).
+ */
+@Component
+@ConditionalOnProperty(name = "booker.emulator.enabled", havingValue = "true")
+public class EmulatorLauncher {
+
+    @Value("${booker.emulator.port:3001}")
+    private int port;
+
+    @Value("${booker.username}")
+    private String username;
+
+    @Value("${booker.password}")
+    private String password;
+
+    private BookerEmulator emulator;
+
+    @PostConstruct
+    public void start() {
+        try {
+            emulator = BookerEmulator.start(port, username, password);
+            System.err.println("Booker emulator listening on " + emulator.getBaseUrl());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start booker emulator on port " + port, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (emulator != null) {
+            emulator.close();
+        }
+    }
+}
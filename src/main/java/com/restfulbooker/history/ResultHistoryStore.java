@@ -0,0 +1,391 @@
+package com.restfulbooker.history;
+
+import com.restfulbooker.model.HistoryPoint;
+import com.restfulbooker.model.HistorySeries;
+import com.restfulbooker.model.TestResult;
+import com.restfulbooker.service.TestResultListener;
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.IntCountsHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every check result on disk in memory-mapped, append-only segments under
+ * {@code history.dir}. A segment is closed after {@code history.segment-duration}
+ * or {@code history.segment-records} results, and whole segments older than
+ * {@code history.retention} are deleted. Queries read the segments that overlap
+ * the requested range one at a time and fold records straight into per-bucket
+ * aggregates, so heap use is one segment plus the points returned, however much
+ * history exists.
+ * Results are queued (up to {@code history.queue-size}) for a single writer thread,
+ * so checks never wait on the file system.
+ */
+@Service
+public class ResultHistoryStore implements TestResultListener {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int DEFAULT_POINTS = 200;
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int WRITE_BATCH = 1024;
+    private static final long DROP_LOG_EVERY = 10_000;
+
+    private final boolean enabled;
+    private final Path dir;
+    private final long segmentMillis;
+    private final int segmentRecords;
+    private final long retentionMillis;
+    private final int maxPoints;
+    private final SeriesDictionary series;
+    private final ScheduledExecutorService maintenance;
+    private final BlockingQueue<Pending> pending;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean stopping;
+
+    // Guarded by lock, shared by the writer thread and maintenance
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment active;
+    private long lastTimestamp;
+    private long lastSegmentStart = -1;
+
+    public ResultHistoryStore(@Value("${history.enabled:true}") boolean enabled,
+                              @Value("${history.dir:data/history}") Path dir,
+                              @Value("${history.segment-duration:1h}") Duration segmentDuration,
+                              @Value("${history.segment-records:262144}") int segmentRecords,
+                              @Value("${history.retention:7d}") Duration retention,
+                              @Value("${history.max-points:1000}") int maxPoints,
+                              @Value("${history.queue-size:65536}") int queueSize) throws IOException {
+        this.enabled = enabled;
+        this.dir = dir;
+        this.segmentMillis = segmentDuration.toMillis();
+        this.segmentRecords = segmentRecords;
+        this.retentionMillis = retention.toMillis();
+        this.maxPoints = maxPoints;
+        if (!enabled) {
+            this.series = null;
+            this.maintenance = null;
+            this.pending = null;
+            this.writer = null;
+            return;
+        }
+
+        Files.createDirectories(dir);
+        this.series = new SeriesDictionary(dir.resolve("series.tsv"));
+        reopenLatest();
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "history-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleAtFixedRate(() -> maintain(System.currentTimeMillis()), 1, 1, TimeUnit.MINUTES);
+        this.pending = new ArrayBlockingQueue<>(queueSize);
+        this.writer = Thread.ofPlatform().name("history-writer").daemon().start(this::write);
+    }
+
+    // Keeps appending to the newest segment after a restart if it is still within its time window
+    private void reopenLatest() throws IOException {
+        List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        Segment latest = Segment.openForAppend(segments.get(segments.size() - 1));
+        lastTimestamp = latest.lastTimestamp();
+        lastSegmentStart = latest.getStart();
+        if (!latest.isFull() && System.currentTimeMillis() < latest.getStart() + segmentMillis) {
+            active = latest;
+        }
+    }
+
+    @Override
+    public void onResult(TestResult result) {
+        if (enabled && !pending.offer(new Pending(result, System.currentTimeMillis()))) {
+            // The disk cannot keep up; losing history beats slowing every check down
+            long total = dropped.incrementAndGet();
+            if (total % DROP_LOG_EVERY == 1) {
+                System.err.println("Result history queue is full, " + total + " results not recorded so far");
+            }
+        }
+    }
+
+    // Writes queued results in batches until shutdown, then whatever is left
+    private void write() {
+        List<Pending> batch = new ArrayList<>(WRITE_BATCH);
+        while (!stopping || !pending.isEmpty()) {
+            try {
+                Pending first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Not interrupted on purpose: an interrupt would close the segment's channel mid-write
+                continue;
+            }
+            pending.drainTo(batch, WRITE_BATCH - 1);
+            lock.lock();
+            try {
+                for (Pending queued : batch) {
+                    appendLocked(queued.result(), queued.timestamp());
+                }
+            } finally {
+                lock.unlock();
+            }
+            batch.clear();
+        }
+    }
+
+    void append(TestResult result, long timestamp) {
+        lock.lock();
+        try {
+            appendLocked(result, timestamp);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void appendLocked(TestResult result, long timestamp) {
+        try {
+            int seriesId = series.idOf(result.target(), result.testName());
+            // Timestamps never go backwards within the store, so each segment stays sorted for binary search
+            long time = Math.max(timestamp, lastTimestamp);
+            if (active == null || active.isFull() || time >= active.getStart() + segmentMillis) {
+                // Segment files are named by start time, so a segment that fills within a millisecond bumps the next one
+                long start = Math.max(time, lastSegmentStart + 1);
+                closeActive();
+                active = Segment.create(dir, start, segmentRecords);
+                lastSegmentStart = start;
+                time = start;
+            }
+            active.append(time, result.durationNanos(), seriesId, result.statusCode(), statusOf(result));
+            lastTimestamp = time;
+        } catch (IOException e) {
+            System.err.println("Failed to record result history: " + e.getMessage());
+        }
+    }
+
+    private static byte statusOf(TestResult result) {
+        return switch (result.status()) {
+            case PASSED -> Segment.PASSED;
+            case FAILED -> Segment.FAILED;
+            case ERROR -> Segment.ERROR;
+        };
+    }
+
+    /**
+     * Returns one downsampled series per (target, test) with results in {@code [from, to)}.
+     * {@code target} and {@code testName} narrow the result when given; {@code step} defaults
+     * to a bucket width giving about 200 points and is widened if it would exceed {@code history.max-points}.
+     */
+    public List<HistorySeries> query(String target, String testName, long from, long to, Duration step) {
+        if (!enabled) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Result history is disabled");
+        }
+        if (to <= from) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must be after 'from'");
+        }
+        long range = to - from;
+        long stepMillis = step != null ? step.toMillis() : ceilDiv(range, DEFAULT_POINTS);
+        stepMillis = Math.max(Math.max(stepMillis, ceilDiv(range, maxPoints)), 1);
+        int buckets = (int) ceilDiv(range, stepMillis);
+
+        // Row per series id; a null value marks a series the filters exclude
+        Map<Integer, Bucket[]> rows = new HashMap<>();
+        List<Path> paths = segments();
+        for (int i = 0; i < paths.size(); i++) {
+            long start = Segment.startOf(paths.get(i));
+            if (start >= to || endOf(paths, i) <= from) {
+                continue;
+            }
+            Segment segment;
+            try {
+                segment = Segment.openForRead(paths.get(i));
+            } catch (IOException e) {
+                // Deleted by retention since the listing, or unreadable; the rest of the range is still useful
+                continue;
+            }
+            for (int r = segment.firstAtOrAfter(from); r < segment.count(); r++) {
+                long timestamp = segment.timestampAt(r);
+                if (timestamp >= to) {
+                    break;
+                }
+                int id = segment.seriesAt(r);
+                if (!rows.containsKey(id)) {
+                    rows.put(id, matches(id, target, testName) ? new Bucket[buckets] : null);
+                }
+                Bucket[] row = rows.get(id);
+                if (row != null) {
+                    int b = (int) ((timestamp - from) / stepMillis);
+                    if (row[b] == null) {
+                        row[b] = new Bucket();
+                    }
+                    row[b].add(segment.durationAt(r), segment.statusAt(r));
+                }
+            }
+        }
+
+        List<HistorySeries> result = new ArrayList<>();
+        for (Map.Entry<Integer, Bucket[]> row : rows.entrySet()) {
+            if (row.getValue() == null) {
+                continue;
+            }
+            SeriesDictionary.Series key = series.get(row.getKey());
+            HistorySeries history = new HistorySeries();
+            history.setTarget(key.target());
+            history.setTestName(key.testName());
+            history.setFrom(from);
+            history.setTo(to);
+            history.setStepMillis(stepMillis);
+            history.setPoints(new ArrayList<>());
+            Bucket[] points = row.getValue();
+            for (int b = 0; b < points.length; b++) {
+                if (points[b] != null) {
+                    history.getPoints().add(points[b].toPoint(from + b * stepMillis));
+                }
+            }
+            result.add(history);
+        }
+        result.sort(Comparator.comparing(HistorySeries::getTestName, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(HistorySeries::getTarget, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    private boolean matches(int id, String target, String testName) {
+        SeriesDictionary.Series key = series.get(id);
+        return key != null
+                && (target == null || target.isBlank() || target.equals(key.target()))
+                && (testName == null || testName.isBlank() || testName.equals(key.testName()));
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return (a + b - 1) / b;
+    }
+
+    /**
+     * Closes the active segment once its time window has passed and deletes
+     * segments that ended before the retention cutoff.
+     */
+    void maintain(long now) {
+        lock.lock();
+        try {
+            if (active != null && now >= active.getStart() + segmentMillis) {
+                closeActive();
+            }
+            long cutoff = now - retentionMillis;
+            List<Path> paths = segments();
+            for (int i = 0; i < paths.size(); i++) {
+                boolean isActive = active != null && active.getPath().equals(paths.get(i));
+                if (endOf(paths, i) <= cutoff && !isActive) {
+                    try {
+                        Files.deleteIfExists(paths.get(i));
+                    } catch (IOException e) {
+                        System.err.println("Failed to delete history segment " + paths.get(i) + ": " + e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A segment only holds records from its start until the next segment starts or its window ends
+    private long endOf(List<Path> paths, int i) {
+        long end = Segment.startOf(paths.get(i)) + segmentMillis;
+        return i + 1 < paths.size() ? Math.min(end, Segment.startOf(paths.get(i + 1))) : end;
+    }
+
+    List<Path> segments() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Segment::isSegment).sorted().toList();
+        } catch (IOException e) {
+            System.err.println("Failed to list history segments: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void closeActive() {
+        if (active != null) {
+            active.force();
+            active = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        if (writer != null) {
+            stopping = true;
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            closeActive();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Pending(TestResult result, long timestamp) {
+    }
+
+    private static class Bucket {
+        // One significant digit keeps each bucket's histogram around 2.5 KB; percentiles are within 10%
+        private final AbstractHistogram latency = new IntCountsHistogram(HIGHEST_TRACKABLE_NANOS, 1);
+        private long count;
+        private long passed;
+        private long totalNanos;
+
+        void add(long durationNanos, byte status) {
+            count++;
+            if (status == Segment.PASSED) {
+                passed++;
+            }
+            if (durationNanos > 0) {
+                totalNanos += durationNanos;
+                latency.recordValue(Math.min(durationNanos, HIGHEST_TRACKABLE_NANOS));
+            }
+        }
+
+        HistoryPoint toPoint(long timestamp) {
+            HistoryPoint point = new HistoryPoint();
+            point.setTimestamp(timestamp);
+            point.setCount(count);
+            point.setPassed(passed);
+            point.setPassRate(count == 0 ? 0 : (double) passed / count);
+            if (latency.getTotalCount() > 0) {
+                point.setMean(totalNanos / NANOS_PER_MILLI / latency.getTotalCount());
+                point.setP50(latency.getValueAtPercentile(50) / NANOS_PER_MILLI);
+                point.setP95(latency.getValueAtPercentile(95) / NANOS_PER_MILLI);
+                point.setP99(latency.getValueAtPercentile(99) / NANOS_PER_MILLI);
+                point.setMax(latency.getMaxValue() / NANOS_PER_MILLI);
+            }
+            return point;
+        }
+    }
+}
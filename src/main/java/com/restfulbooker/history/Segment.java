@@ -0,0 +1,192 @@
+package com.restfulbooker.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One append-only segment file, memory-mapped while it is written. A 32-byte header (magic,
+ * version, record size, start time, committed count) is followed by
+ * fixed-width 24-byte records:
+ *
+ * <pre>
+ *  0  long  timestamp (epoch millis, non-decreasing within a segment)
+ *  8  long  duration (nanos)
+ * 16  int   series id (see {@link SeriesDictionary})
+ * 20  short HTTP status code
+ * 22  byte  status (0 passed, 1 failed, 2 error)
+ * 23  byte  reserved
+ * </pre>
+ *
+ * The count is written after the record, so a reader never sees a half-written one.
+ * Queries read the committed records into the heap instead of mapping the file,
+ * so nothing keeps a mapping of it open once the query is done.
+ */
+final class Segment {
+
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 24;
+    static final String SUFFIX = ".seg";
+
+    static final byte PASSED = 0;
+    static final byte FAILED = 1;
+    static final byte ERROR = 2;
+
+    private static final int MAGIC = 0x54524831; // "TRH1"
+    private static final short VERSION = 1;
+    private static final int COUNT_OFFSET = 16;
+
+    private final Path path;
+    private final long start;
+    private final int capacity;
+    private final ByteBuffer buffer;
+    private int count;
+
+    private Segment(Path path, long start, int capacity, ByteBuffer buffer, int count) {
+        this.path = path;
+        this.start = start;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    static Path pathFor(Path dir, long start) {
+        return dir.resolve(String.format("%013d%s", start, SUFFIX));
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    static long startOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    static Segment create(Path dir, long start, int capacity) throws IOException {
+        Path path = pathFor(dir, start);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) capacity * RECORD_BYTES);
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, VERSION);
+            buffer.putShort(6, (short) RECORD_BYTES);
+            buffer.putLong(8, start);
+            buffer.putLong(COUNT_OFFSET, 0);
+            return new Segment(path, start, capacity, buffer, 0);
+        }
+    }
+
+    static Segment openForAppend(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new Segment(path, startOf(path), capacityOf(buffer), buffer, countOf(buffer, path));
+        }
+    }
+
+    static Segment openForRead(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0, path);
+            if (header.getInt(0) != MAGIC || header.getShort(6) != RECORD_BYTES) {
+                throw new IOException("Not a history segment: " + path);
+            }
+            int count = (int) Math.min(header.getLong(COUNT_OFFSET), (channel.size() - HEADER_BYTES) / RECORD_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + count * RECORD_BYTES);
+            buffer.put(header.flip());
+            readFully(channel, buffer, HEADER_BYTES, path);
+            return new Segment(path, startOf(path), count, buffer, count);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position, Path path) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Truncated history segment: " + path);
+            }
+            position += read;
+        }
+    }
+
+    private static int capacityOf(ByteBuffer buffer) {
+        return (buffer.capacity() - HEADER_BYTES) / RECORD_BYTES;
+    }
+
+    private static int countOf(ByteBuffer buffer, Path path) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getShort(6) != RECORD_BYTES) {
+            throw new IOException("Not a history segment: " + path);
+        }
+        return (int) Math.min(buffer.getLong(COUNT_OFFSET), capacityOf(buffer));
+    }
+
+    void append(long timestamp, long durationNanos, int seriesId, int statusCode, byte status) {
+        int offset = HEADER_BYTES + count * RECORD_BYTES;
+        buffer.putLong(offset, timestamp);
+        buffer.putLong(offset + 8, durationNanos);
+        buffer.putInt(offset + 16, seriesId);
+        buffer.putShort(offset + 20, (short) statusCode);
+        buffer.put(offset + 22, status);
+        buffer.put(offset + 23, (byte) 0);
+        count++;
+        buffer.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Index of the first record at or after {@code timestamp}, or {@link #count()} if there is none.
+     */
+    int firstAtOrAfter(long timestamp) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    long timestampAt(int index) {
+        return buffer.getLong(HEADER_BYTES + index * RECORD_BYTES);
+    }
+
+    long durationAt(int index) {
+        return buffer.getLong(HEADER_BYTES + index * RECORD_BYTES + 8);
+    }
+
+    int seriesAt(int index) {
+        return buffer.getInt(HEADER_BYTES + index * RECORD_BYTES + 16);
+    }
+
+    byte statusAt(int index) {
+        return buffer.get(HEADER_BYTES + index * RECORD_BYTES + 22);
+    }
+
+    // Only segments opened for writing are mapped and have anything to flush
+    void force() {
+        if (buffer instanceof MappedByteBuffer mapped) {
+            mapped.force();
+        }
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    Path getPath() { return path; }
+
+    long getStart() { return start; }
+
+    int count() { return count; }
+
+    long lastTimestamp() {
+        return count == 0 ? start : timestampAt(count - 1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.restfulbooker.history;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Maps each (target, test) pair to the small integer id stored in segment
+ * records. Ids are line numbers in an append-only text file, so they stay
+ * stable across restarts and survive segment retention.
+ */
+final class SeriesDictionary {
+
+    record Series(String target, String testName) {}
+
+    private final Path file;
+    private final Map<Series, Integer> ids = new ConcurrentHashMap<>();
+    private final List<Series> series = new CopyOnWriteArrayList<>();
+
+    SeriesDictionary(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                Series entry = new Series(emptyToNull(line.substring(0, tab)), line.substring(tab + 1));
+                ids.putIfAbsent(entry, series.size());
+                series.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the id for the pair, registering it first if needed. Callers serialize registration.
+     */
+    int idOf(String target, String testName) throws IOException {
+        // Keyed as the line will read back, so the pair keeps its id after a restart
+        Series entry = new Series(emptyToNull(clean(target)), clean(testName));
+        Integer id = ids.get(entry);
+        if (id != null) {
+            return id;
+        }
+        String line = clean(entry.target()) + '\t' + entry.testName() + '\n';
+        Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        series.add(entry);
+        ids.put(entry, series.size() - 1);
+        return series.size() - 1;
+    }
+
+    Series get(int id) {
+        return id >= 0 && id < series.size() ? series.get(id) : null;
+    }
+
+    private static String clean(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
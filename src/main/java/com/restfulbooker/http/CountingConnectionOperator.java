@@ -0,0 +1,60 @@
+package com.restfulbooker.http;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnection;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection operator that counts how many connections the pool opens and
+ * closes over its lifetime.
+ */
+@SuppressWarnings("deprecation")
+class CountingConnectionOperator extends DefaultClientConnectionOperator {
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    CountingConnectionOperator(SchemeRegistry registry, DnsResolver dnsResolver) {
+        super(registry, dnsResolver);
+    }
+
+    @Override
+    public OperatedClientConnection createConnection() {
+        created.increment();
+        return new DefaultClientConnection() {
+            private final AtomicBoolean released = new AtomicBoolean();
+
+            @Override
+            public void close() throws IOException {
+                countClose();
+                super.close();
+            }
+
+            @Override
+            public void shutdown() throws IOException {
+                countClose();
+                super.shutdown();
+            }
+
+            private void countClose() {
+                if (released.compareAndSet(false, true)) {
+                    closed.increment();
+                }
+            }
+        };
+    }
+
+    long getCreated() {
+        return created.sum();
+    }
+
+    long getClosed() {
+        return closed.sum();
+    }
+}
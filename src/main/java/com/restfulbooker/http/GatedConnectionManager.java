@@ -0,0 +1,108 @@
+package com.restfulbooker.http;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooling manager that makes callers wait for a free connection on semaphores
+ * rather than inside the pool. HttpClient 4 waits for a pooled connection while
+ * holding a monitor, which pins a virtual thread to its carrier; once a small
+ * pool is saturated that starves the very threads that would hand connections
+ * back.
+ */
+@SuppressWarnings("deprecation")
+class GatedConnectionManager extends PoolingClientConnectionManager {
+
+    private final int maxPerRoute;
+    private final Semaphore total;
+    private final Map<HttpRoute, Semaphore> perRoute = new ConcurrentHashMap<>();
+    private final Map<ManagedClientConnection, HttpRoute> leased = new ConcurrentHashMap<>();
+
+    GatedConnectionManager(SchemeRegistry registry, int maxTotal, int maxPerRoute) {
+        super(registry);
+        this.maxPerRoute = maxPerRoute;
+        this.total = new Semaphore(maxTotal, true);
+        setMaxTotal(maxTotal);
+        setDefaultMaxPerRoute(maxPerRoute);
+    }
+
+    /** Number of callers waiting for a connection. */
+    int getWaiting() {
+        int waiting = total.getQueueLength();
+        for (Semaphore route : perRoute.values()) {
+            waiting += route.getQueueLength();
+        }
+        return waiting;
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        Semaphore routePermits = perRoute.computeIfAbsent(route, r -> new Semaphore(maxPerRoute, true));
+        return new ClientConnectionRequest() {
+            private volatile ClientConnectionRequest delegate;
+
+            @Override
+            public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                long deadline = timeout > 0 ? System.nanoTime() + unit.toNanos(timeout) : 0;
+                acquire(routePermits, deadline);
+                try {
+                    acquire(total, deadline);
+                } catch (InterruptedException | ConnectionPoolTimeoutException e) {
+                    routePermits.release();
+                    throw e;
+                }
+                try {
+                    delegate = GatedConnectionManager.super.requestConnection(route, state);
+                    ManagedClientConnection connection = delegate.getConnection(timeout, unit);
+                    leased.put(connection, route);
+                    return connection;
+                } catch (InterruptedException | ConnectionPoolTimeoutException | RuntimeException e) {
+                    total.release();
+                    routePermits.release();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void abortRequest() {
+                ClientConnectionRequest current = delegate;
+                if (current != null) {
+                    current.abortRequest();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(ManagedClientConnection connection, long keepAlive, TimeUnit unit) {
+        try {
+            super.releaseConnection(connection, keepAlive, unit);
+        } finally {
+            // The route is looked up here because a released connection no longer knows it
+            HttpRoute route = leased.remove(connection);
+            if (route != null) {
+                total.release();
+                perRoute.get(route).release();
+            }
+        }
+    }
+
+    private static void acquire(Semaphore permits, long deadline)
+            throws InterruptedException, ConnectionPoolTimeoutException {
+        if (deadline == 0) {
+            permits.acquire();
+        } else if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.restfulbooker.http;
+
+import com.restfulbooker.model.ConnectionPoolStats;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.pool.PoolStats;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keep-alive connection pool shared by every check and runner against one
+ * target, so a remote TLS target costs one handshake per pooled connection
+ * instead of one per check. Connections idle for longer than
+ * {@code http.pool.idle-timeout} are evicted in the background. Every client
+ * gets the {@code http.timeout.*} connect and read timeouts unless a check
+ * sets its own.
+ */
+@SuppressWarnings("deprecation")
+public class HttpClientPool {
+
+    private static final DnsResolver DNS_RESOLVER = new TimingDnsResolver();
+
+    private final String target;
+    private final CountingConnectionOperator operator;
+    private final GatedConnectionManager connectionManager;
+    private final TimingHttpClientFactory clientFactory;
+    private final ScheduledExecutorService evictor;
+
+    public HttpClientPool(String target, int maxTotal, int maxPerRoute, Duration keepAlive, Duration idleTimeout,
+                          Duration connectTimeout, Duration readTimeout) {
+        this.target = target;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "http-pool-evictor-" + target);
+            thread.setDaemon(true);
+            return thread;
+        });
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new TimingSocketFactory()));
+        registry.register(new Scheme("https", 443, new TimingTlsSocketFactory()));
+        this.operator = new CountingConnectionOperator(registry, DNS_RESOLVER);
+        this.connectionManager = new GatedConnectionManager(registry, maxTotal, maxPerRoute) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return operator;
+            }
+        };
+        this.clientFactory = new TimingHttpClientFactory(connectionManager, keepAlive.toMillis(),
+                (int) connectTimeout.toMillis(), (int) readTimeout.toMillis());
+
+        long evictionPeriod = Math.max(1, idleTimeout.toSeconds() / 2);
+        evictor.scheduleAtFixedRate(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }, evictionPeriod, evictionPeriod, TimeUnit.SECONDS);
+    }
+
+    public TimingHttpClientFactory getClientFactory() {
+        return clientFactory;
+    }
+
+    public ConnectionPoolStats getStats() {
+        PoolStats totals = connectionManager.getTotalStats();
+        ConnectionPoolStats stats = new ConnectionPoolStats();
+        stats.setTarget(target);
+        stats.setLeased(totals.getLeased());
+        stats.setIdle(totals.getAvailable());
+        stats.setPending(totals.getPending() + connectionManager.getWaiting());
+        stats.setMaxTotal(totals.getMax());
+        stats.setMaxPerRoute(connectionManager.getDefaultMaxPerRoute());
+        stats.setCreated(operator.getCreated());
+        stats.setClosed(operator.getClosed());
+        return stats;
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+}
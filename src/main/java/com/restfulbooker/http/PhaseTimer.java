@@ -0,0 +1,106 @@
+package com.restfulbooker.http;
+
+import com.restfulbooker.model.PhaseTimings;
+import org.apache.http.HttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-thread phase clock for the request currently executing on this thread.
+ * HttpClient 4 runs DNS, connect, TLS and the exchange on the calling thread,
+ * so each hook can stamp its phase without any shared state.
+ */
+public final class PhaseTimer {
+
+    private static final ThreadLocal<PhaseTimer> CURRENT = ThreadLocal.withInitial(PhaseTimer::new);
+
+    private long dnsNanos;
+    private long connectNanos;
+    private long tlsNanos;
+    private long requestSentAt;
+    private long headersReceivedAt;
+    private long bodyCompletedAt;
+    private final List<HttpResponse> openResponses = new ArrayList<>(1);
+
+    private PhaseTimer() {
+    }
+
+    public static void start() {
+        CURRENT.get().clear();
+    }
+
+    /**
+     * Returns the phases recorded since {@link #start()} and clears the clock.
+     * Any response body the check left unread is drained here so its pooled
+     * connection goes back to the pool instead of staying leased.
+     */
+    public static PhaseTimings finish() {
+        PhaseTimer timer = CURRENT.get();
+        PhaseTimings timings = new PhaseTimings();
+        timings.setDnsNanos(timer.dnsNanos);
+        timings.setConnectNanos(timer.connectNanos);
+        timings.setTlsNanos(timer.tlsNanos);
+        timings.setConnectionReused(timer.connectNanos == 0 && timer.requestSentAt != 0);
+        if (timer.headersReceivedAt != 0) {
+            timings.setTtfbNanos(timer.headersReceivedAt - timer.requestSentAt);
+            if (timer.bodyCompletedAt != 0) {
+                timings.setDownloadNanos(timer.bodyCompletedAt - timer.headersReceivedAt);
+            }
+        }
+        timer.clear();
+        return timings;
+    }
+
+    static void dns(long nanos) {
+        CURRENT.get().dnsNanos += nanos;
+    }
+
+    static void connect(long nanos) {
+        CURRENT.get().connectNanos += nanos;
+    }
+
+    static void tls(long nanos) {
+        CURRENT.get().tlsNanos += nanos;
+    }
+
+    static void requestSent() {
+        PhaseTimer timer = CURRENT.get();
+        timer.requestSentAt = System.nanoTime();
+        timer.headersReceivedAt = 0;
+        timer.bodyCompletedAt = 0;
+    }
+
+    static void opened(HttpResponse response) {
+        CURRENT.get().openResponses.add(response);
+    }
+
+    static void headersReceived() {
+        CURRENT.get().headersReceivedAt = System.nanoTime();
+    }
+
+    static void bodyCompleted(PhaseTimer timer) {
+        if (timer.bodyCompletedAt == 0) {
+            timer.bodyCompletedAt = System.nanoTime();
+        }
+    }
+
+    static PhaseTimer current() {
+        return CURRENT.get();
+    }
+
+    private void clear() {
+        // The connection-releasing wrapper is only set on the response after the interceptors run
+        for (HttpResponse response : openResponses) {
+            EntityUtils.consumeQuietly(response.getEntity());
+        }
+        dnsNanos = 0;
+        connectNanos = 0;
+        tlsNanos = 0;
+        requestSentAt = 0;
+        headersReceivedAt = 0;
+        bodyCompletedAt = 0;
+        openResponses.clear();
+    }
+}
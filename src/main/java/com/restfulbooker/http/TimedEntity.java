@@ -0,0 +1,51 @@
+package com.restfulbooker.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Marks the end of the body download phase when the response stream hits EOF
+ * or is closed, whoever ends up reading it.
+ */
+class TimedEntity extends HttpEntityWrapper {
+
+    private final PhaseTimer timer;
+
+    TimedEntity(HttpEntity entity, PhaseTimer timer) {
+        super(entity);
+        this.timer = timer;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new FilterInputStream(super.getContent()) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b < 0) {
+                    PhaseTimer.bodyCompleted(timer);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n < 0) {
+                    PhaseTimer.bodyCompleted(timer);
+                }
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                PhaseTimer.bodyCompleted(timer);
+                super.close();
+            }
+        };
+    }
+}
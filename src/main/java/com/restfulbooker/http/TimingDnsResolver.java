@@ -0,0 +1,22 @@
+package com.restfulbooker.http;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+class TimingDnsResolver implements DnsResolver {
+
+    private final DnsResolver delegate = SystemDefaultDnsResolver.INSTANCE;
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long start = System.nanoTime();
+        try {
+            return delegate.resolve(host);
+        } finally {
+            PhaseTimer.dns(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.restfulbooker.http;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.HttpConnectionParams;
+
+/**
+ * REST Assured client factory whose clients report DNS, connect, TLS, TTFB and
+ * body download timings to the calling thread's {@link PhaseTimer}.
+ * <p>
+ * REST Assured tweaks client parameters per request, so every request gets its
+ * own lightweight client; they all lease connections from the same pool.
+ */
+@SuppressWarnings("deprecation")
+public class TimingHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final ClientConnectionManager connectionManager;
+    private final long keepAliveMillis;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    TimingHttpClientFactory(ClientConnectionManager connectionManager, long keepAliveMillis,
+                            int connectTimeoutMillis, int readTimeoutMillis) {
+        this.connectionManager = connectionManager;
+        this.keepAliveMillis = keepAliveMillis;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        // Defaults only: REST Assured applies a check's own timeouts on top of these
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), connectTimeoutMillis);
+        HttpConnectionParams.setSoTimeout(client.getParams(), readTimeoutMillis);
+        // Honour the server's Keep-Alive timeout, otherwise keep connections for the configured time
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMillis;
+        });
+        // Request interceptors run once the connection is open, right before the request is written
+        client.addRequestInterceptor((request, context) -> PhaseTimer.requestSent());
+        client.addResponseInterceptor((response, context) -> {
+            PhaseTimer.headersReceived();
+            if (response.getEntity() != null) {
+                response.setEntity(new TimedEntity(response.getEntity(), PhaseTimer.current()));
+                PhaseTimer.opened(response);
+            }
+        });
+        return client;
+    }
+}
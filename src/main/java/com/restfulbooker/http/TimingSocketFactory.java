@@ -0,0 +1,40 @@
+package com.restfulbooker.http;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Plain socket factory that times the TCP connect phase.
+ */
+@SuppressWarnings("deprecation")
+class TimingSocketFactory implements SchemeSocketFactory {
+
+    private final SchemeSocketFactory plain = PlainSocketFactory.getSocketFactory();
+
+    @Override
+    public Socket createSocket(HttpParams params) throws IOException {
+        return plain.createSocket(params);
+    }
+
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException, ConnectTimeoutException {
+        long start = System.nanoTime();
+        try {
+            return plain.connectSocket(socket, remoteAddress, localAddress, params);
+        } finally {
+            PhaseTimer.connect(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isSecure(Socket socket) {
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.restfulbooker.http;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Times the TCP connect and the TLS handshake as separate phases by layering
+ * TLS over an already connected plain socket, instead of letting the SSL
+ * factory connect and handshake in one call.
+ */
+@SuppressWarnings("deprecation")
+class TimingTlsSocketFactory extends TimingSocketFactory implements SchemeLayeredSocketFactory {
+
+    private final SSLSocketFactory tls = SSLSocketFactory.getSocketFactory();
+
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException, ConnectTimeoutException {
+        Socket connected = super.connectSocket(socket, remoteAddress, localAddress, params);
+        String host = remoteAddress instanceof HttpInetSocketAddress
+                ? ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName()
+                : remoteAddress.getHostName();
+        return createLayeredSocket(connected, host, remoteAddress.getPort(), params);
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return tls.createLayeredSocket(socket, target, port, params);
+        } finally {
+            PhaseTimer.tls(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isSecure(Socket socket) {
+        return true;
+    }
+}
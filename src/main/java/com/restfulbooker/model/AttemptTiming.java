@@ -0,0 +1,27 @@
+package com.restfulbooker.model;
+
+public class AttemptTiming {
+    private int attempt;
+    private int statusCode;
+    private long durationNanos;
+    private long backoffNanos;
+    private String error;
+
+    // Getters and Setters
+    public int getAttempt() { return attempt; }
+    public void setAttempt(int attempt) { this.attempt = attempt; }
+
+    // 0 when the attempt got no response
+    public int getStatusCode() { return statusCode; }
+    public void setStatusCode(int statusCode) { this.statusCode = statusCode; }
+
+    public long getDurationNanos() { return durationNanos; }
+    public void setDurationNanos(long durationNanos) { this.durationNanos = durationNanos; }
+
+    // Wait before the next attempt, 0 for the last one
+    public long getBackoffNanos() { return backoffNanos; }
+    public void setBackoffNanos(long backoffNanos) { this.backoffNanos = backoffNanos; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
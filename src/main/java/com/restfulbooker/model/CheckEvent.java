@@ -0,0 +1,29 @@
+package com.restfulbooker.model;
+
+public class CheckEvent {
+    private String check;
+    private TestResult result;
+    private int completed;
+    private int total;
+    private int passed;
+    private int failed;
+
+    // Getters and Setters
+    public String getCheck() { return check; }
+    public void setCheck(String check) { this.check = check; }
+
+    public TestResult getResult() { return result; }
+    public void setResult(TestResult result) { this.result = result; }
+
+    public int getCompleted() { return completed; }
+    public void setCompleted(int completed) { this.completed = completed; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getPassed() { return passed; }
+    public void setPassed(int passed) { this.passed = passed; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+}
@@ -0,0 +1,8 @@
+package com.restfulbooker.model;
+
+// ERROR means the check could not tell: no response, an exception, or a full queue
+public enum CheckStatus {
+    PASSED,
+    FAILED,
+    ERROR
+}
@@ -0,0 +1,28 @@
+package com.restfulbooker.model;
+
+public class CircuitStatus {
+    private String target;
+    private String state;
+    private int consecutiveFailures;
+    private long rejected;
+    private double retryBudget;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    // CLOSED, OPEN or HALF_OPEN
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+
+    public int getConsecutiveFailures() { return consecutiveFailures; }
+    public void setConsecutiveFailures(int consecutiveFailures) { this.consecutiveFailures = consecutiveFailures; }
+
+    // Checks failed fast while the circuit was open
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    // Retries currently available to checks against this target
+    public double getRetryBudget() { return retryBudget; }
+    public void setRetryBudget(double retryBudget) { this.retryBudget = retryBudget; }
+}
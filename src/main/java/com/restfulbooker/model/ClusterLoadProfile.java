@@ -0,0 +1,22 @@
+package com.restfulbooker.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A load profile for the whole cluster: targetRps and maxVirtualUsers apply
+ * to each target and are shared by the workers running it.
+ */
+public class ClusterLoadProfile extends LoadProfile {
+    private List<String> targets = new ArrayList<>();
+    private List<String> workers = new ArrayList<>();
+
+    // Getters and Setters
+    // Empty means just the profile's target (or the default one)
+    public List<String> getTargets() { return targets; }
+    public void setTargets(List<String> targets) { this.targets = targets; }
+
+    // Worker ids to use; empty means every live worker
+    public List<String> getWorkers() { return workers; }
+    public void setWorkers(List<String> workers) { this.workers = workers; }
+}
@@ -0,0 +1,67 @@
+package com.restfulbooker.model;
+
+import java.util.List;
+
+public class ClusterRunStatus {
+    private String runId;
+    private boolean running;
+    private String message;
+    private long startTime;
+    private long elapsed;
+    private long started;
+    private long completed;
+    private long failed;
+    private long dropped;
+    private int inFlight;
+    private LatencyStats latency;
+    private List<LatencyStats> targets;
+    private List<LatencyStats> checks;
+    private List<WorkerRunStatus> workers;
+
+    // Getters and Setters (totals across every worker)
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    public boolean isRunning() { return running; }
+    public void setRunning(boolean running) { this.running = running; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    // Epoch millis
+    public long getStartTime() { return startTime; }
+    public void setStartTime(long startTime) { this.startTime = startTime; }
+
+    public long getElapsed() { return elapsed; }
+    public void setElapsed(long elapsed) { this.elapsed = elapsed; }
+
+    public long getStarted() { return started; }
+    public void setStarted(long started) { this.started = started; }
+
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+
+    // Scenario latency merged from every worker's histograms
+    public LatencyStats getLatency() { return latency; }
+    public void setLatency(LatencyStats latency) { this.latency = latency; }
+
+    // Scenario latency per target
+    public List<LatencyStats> getTargets() { return targets; }
+    public void setTargets(List<LatencyStats> targets) { this.targets = targets; }
+
+    // Latency of each check in the scenario
+    public List<LatencyStats> getChecks() { return checks; }
+    public void setChecks(List<LatencyStats> checks) { this.checks = checks; }
+
+    public List<WorkerRunStatus> getWorkers() { return workers; }
+    public void setWorkers(List<WorkerRunStatus> workers) { this.workers = workers; }
+}
@@ -0,0 +1,37 @@
+package com.restfulbooker.model;
+
+public class ConnectionPoolStats {
+    private String target;
+    private int leased;
+    private int idle;
+    private int pending;
+    private int maxTotal;
+    private int maxPerRoute;
+    private long created;
+    private long closed;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public int getLeased() { return leased; }
+    public void setLeased(int leased) { this.leased = leased; }
+
+    public int getIdle() { return idle; }
+    public void setIdle(int idle) { this.idle = idle; }
+
+    public int getPending() { return pending; }
+    public void setPending(int pending) { this.pending = pending; }
+
+    public int getMaxTotal() { return maxTotal; }
+    public void setMaxTotal(int maxTotal) { this.maxTotal = maxTotal; }
+
+    public int getMaxPerRoute() { return maxPerRoute; }
+    public void setMaxPerRoute(int maxPerRoute) { this.maxPerRoute = maxPerRoute; }
+
+    public long getCreated() { return created; }
+    public void setCreated(long created) { this.created = created; }
+
+    public long getClosed() { return closed; }
+    public void setClosed(long closed) { this.closed = closed; }
+}
@@ -0,0 +1,41 @@
+package com.restfulbooker.model;
+
+public class HistoryPoint {
+    private long timestamp;
+    private long count;
+    private long passed;
+    private double passRate;
+    private double mean;
+    private double p50;
+    private double p95;
+    private double p99;
+    private double max;
+
+    // Getters and Setters (timestamp is the bucket start in epoch millis, latencies in milliseconds)
+    public long getTimestamp() { return timestamp; }
+    public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public long getPassed() { return passed; }
+    public void setPassed(long passed) { this.passed = passed; }
+
+    public double getPassRate() { return passRate; }
+    public void setPassRate(double passRate) { this.passRate = passRate; }
+
+    public double getMean() { return mean; }
+    public void setMean(double mean) { this.mean = mean; }
+
+    public double getP50() { return p50; }
+    public void setP50(double p50) { this.p50 = p50; }
+
+    public double getP95() { return p95; }
+    public void setP95(double p95) { this.p95 = p95; }
+
+    public double getP99() { return p99; }
+    public void setP99(double p99) { this.p99 = p99; }
+
+    public double getMax() { return max; }
+    public void setMax(double max) { this.max = max; }
+}
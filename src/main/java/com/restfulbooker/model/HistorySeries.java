@@ -0,0 +1,32 @@
+package com.restfulbooker.model;
+
+import java.util.List;
+
+public class HistorySeries {
+    private String target;
+    private String testName;
+    private long from;
+    private long to;
+    private long stepMillis;
+    private List<HistoryPoint> points;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public String getTestName() { return testName; }
+    public void setTestName(String testName) { this.testName = testName; }
+
+    public long getFrom() { return from; }
+    public void setFrom(long from) { this.from = from; }
+
+    public long getTo() { return to; }
+    public void setTo(long to) { this.to = to; }
+
+    public long getStepMillis() { return stepMillis; }
+    public void setStepMillis(long stepMillis) { this.stepMillis = stepMillis; }
+
+    // Only buckets that saw at least one result
+    public List<HistoryPoint> getPoints() { return points; }
+    public void setPoints(List<HistoryPoint> points) { this.points = points; }
+}
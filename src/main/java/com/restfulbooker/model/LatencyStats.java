@@ -0,0 +1,74 @@
+package com.restfulbooker.model;
+
+import java.util.Map;
+
+public class LatencyStats {
+    private String target;
+    private String testName;
+    private String endpoint;
+    private long count;
+    private long attempts;
+    private long retried;
+    private double min;
+    private double mean;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+    private long windowStart;
+    private long windowEnd;
+    private Map<String, LatencyStats> phases;
+
+    // Getters and Setters (latencies in milliseconds)
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public String getTestName() { return testName; }
+    public void setTestName(String testName) { this.testName = testName; }
+
+    public String getEndpoint() { return endpoint; }
+    public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    // Requests sent for the counted results, including retries
+    public long getAttempts() { return attempts; }
+    public void setAttempts(long attempts) { this.attempts = attempts; }
+
+    // Results that needed more than one attempt
+    public long getRetried() { return retried; }
+    public void setRetried(long retried) { this.retried = retried; }
+
+    public double getMin() { return min; }
+    public void setMin(double min) { this.min = min; }
+
+    public double getMean() { return mean; }
+    public void setMean(double mean) { this.mean = mean; }
+
+    public double getP50() { return p50; }
+    public void setP50(double p50) { this.p50 = p50; }
+
+    public double getP90() { return p90; }
+    public void setP90(double p90) { this.p90 = p90; }
+
+    public double getP99() { return p99; }
+    public void setP99(double p99) { this.p99 = p99; }
+
+    public double getP999() { return p999; }
+    public void setP999(double p999) { this.p999 = p999; }
+
+    public double getMax() { return max; }
+    public void setMax(double max) { this.max = max; }
+
+    public long getWindowStart() { return windowStart; }
+    public void setWindowStart(long windowStart) { this.windowStart = windowStart; }
+
+    public long getWindowEnd() { return windowEnd; }
+    public void setWindowEnd(long windowEnd) { this.windowEnd = windowEnd; }
+
+    // Per-phase breakdown (dns, connect, tls, ttfb, download), keyed by phase name
+    public Map<String, LatencyStats> getPhases() { return phases; }
+    public void setPhases(Map<String, LatencyStats> phases) { this.phases = phases; }
+}
@@ -0,0 +1,33 @@
+package com.restfulbooker.model;
+
+public class LoadProfile {
+    private String target;
+    private double targetRps = 10;
+    private long rampUpSeconds = 10;
+    private long steadySeconds = 60;
+    private long rampDownSeconds = 10;
+    private long maxDurationSeconds;
+    private int maxVirtualUsers = 1000;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public double getTargetRps() { return targetRps; }
+    public void setTargetRps(double targetRps) { this.targetRps = targetRps; }
+
+    public long getRampUpSeconds() { return rampUpSeconds; }
+    public void setRampUpSeconds(long rampUpSeconds) { this.rampUpSeconds = rampUpSeconds; }
+
+    public long getSteadySeconds() { return steadySeconds; }
+    public void setSteadySeconds(long steadySeconds) { this.steadySeconds = steadySeconds; }
+
+    public long getRampDownSeconds() { return rampDownSeconds; }
+    public void setRampDownSeconds(long rampDownSeconds) { this.rampDownSeconds = rampDownSeconds; }
+
+    public long getMaxDurationSeconds() { return maxDurationSeconds; }
+    public void setMaxDurationSeconds(long maxDurationSeconds) { this.maxDurationSeconds = maxDurationSeconds; }
+
+    public int getMaxVirtualUsers() { return maxVirtualUsers; }
+    public void setMaxVirtualUsers(int maxVirtualUsers) { this.maxVirtualUsers = maxVirtualUsers; }
+}
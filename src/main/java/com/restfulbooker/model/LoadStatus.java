@@ -0,0 +1,54 @@
+package com.restfulbooker.model;
+
+public class LoadStatus {
+    private String target;
+    private boolean running;
+    private String phase;
+    private String message;
+    private long elapsed;
+    private double currentRps;
+    private long started;
+    private long completed;
+    private long failed;
+    private long dropped;
+    private int inFlight;
+    private LatencyStats latency;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public boolean isRunning() { return running; }
+    public void setRunning(boolean running) { this.running = running; }
+
+    public String getPhase() { return phase; }
+    public void setPhase(String phase) { this.phase = phase; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public long getElapsed() { return elapsed; }
+    public void setElapsed(long elapsed) { this.elapsed = elapsed; }
+
+    public double getCurrentRps() { return currentRps; }
+    public void setCurrentRps(double currentRps) { this.currentRps = currentRps; }
+
+    public long getStarted() { return started; }
+    public void setStarted(long started) { this.started = started; }
+
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+
+    // Iteration latency measured from the intended start time
+    public LatencyStats getLatency() { return latency; }
+    public void setLatency(LatencyStats latency) { this.latency = latency; }
+}
@@ -0,0 +1,29 @@
+package com.restfulbooker.model;
+
+public class PhaseTimings {
+    private long dnsNanos;
+    private long connectNanos;
+    private long tlsNanos;
+    private long ttfbNanos;
+    private long downloadNanos;
+    private boolean connectionReused;
+
+    // Getters and Setters
+    public long getDnsNanos() { return dnsNanos; }
+    public void setDnsNanos(long dnsNanos) { this.dnsNanos = dnsNanos; }
+
+    public long getConnectNanos() { return connectNanos; }
+    public void setConnectNanos(long connectNanos) { this.connectNanos = connectNanos; }
+
+    public long getTlsNanos() { return tlsNanos; }
+    public void setTlsNanos(long tlsNanos) { this.tlsNanos = tlsNanos; }
+
+    public long getTtfbNanos() { return ttfbNanos; }
+    public void setTtfbNanos(long ttfbNanos) { this.ttfbNanos = ttfbNanos; }
+
+    public long getDownloadNanos() { return downloadNanos; }
+    public void setDownloadNanos(long downloadNanos) { this.downloadNanos = downloadNanos; }
+
+    public boolean isConnectionReused() { return connectionReused; }
+    public void setConnectionReused(boolean connectionReused) { this.connectionReused = connectionReused; }
+}
@@ -0,0 +1,53 @@
+package com.restfulbooker.model;
+
+public class ProbeStatus {
+    private String target;
+    private String check;
+    private long intervalMillis;
+    private int backoff;
+    private boolean running;
+    private long runs;
+    private long skipped;
+    private long throttled;
+    private CheckStatus lastStatus;
+    private long lastDuration;
+    private long nextRunAt;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public String getCheck() { return check; }
+    public void setCheck(String check) { this.check = check; }
+
+    public long getIntervalMillis() { return intervalMillis; }
+    public void setIntervalMillis(long intervalMillis) { this.intervalMillis = intervalMillis; }
+
+    // Current multiple of the interval while the probe backs off
+    public int getBackoff() { return backoff; }
+    public void setBackoff(int backoff) { this.backoff = backoff; }
+
+    public boolean isRunning() { return running; }
+    public void setRunning(boolean running) { this.running = running; }
+
+    public long getRuns() { return runs; }
+    public void setRuns(long runs) { this.runs = runs; }
+
+    // Ticks dropped because the previous run had not finished
+    public long getSkipped() { return skipped; }
+    public void setSkipped(long skipped) { this.skipped = skipped; }
+
+    // Runs that had to wait for the rate limit
+    public long getThrottled() { return throttled; }
+    public void setThrottled(long throttled) { this.throttled = throttled; }
+
+    public CheckStatus getLastStatus() { return lastStatus; }
+    public void setLastStatus(CheckStatus lastStatus) { this.lastStatus = lastStatus; }
+
+    // Milliseconds
+    public long getLastDuration() { return lastDuration; }
+    public void setLastDuration(long lastDuration) { this.lastDuration = lastDuration; }
+
+    public long getNextRunAt() { return nextRunAt; }
+    public void setNextRunAt(long nextRunAt) { this.nextRunAt = nextRunAt; }
+}
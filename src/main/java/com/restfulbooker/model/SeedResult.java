@@ -0,0 +1,52 @@
+package com.restfulbooker.model;
+
+public class SeedResult {
+    private String target;
+    private String operation;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private int retries;
+    private int concurrency;
+    private int tracked;
+    private long duration;
+    private double requestsPerSecond;
+    private String lastError;
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    // "seed" or "teardown"
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public int getRetries() { return retries; }
+    public void setRetries(int retries) { this.retries = retries; }
+
+    // Requests allowed in flight at once
+    public int getConcurrency() { return concurrency; }
+    public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+
+    // Seeded bookings still tracked for teardown after this operation
+    public int getTracked() { return tracked; }
+    public void setTracked(int tracked) { this.tracked = tracked; }
+
+    public long getDuration() { return duration; }
+    public void setDuration(long duration) { this.duration = duration; }
+
+    public double getRequestsPerSecond() { return requestsPerSecond; }
+    public void setRequestsPerSecond(double requestsPerSecond) { this.requestsPerSecond = requestsPerSecond; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
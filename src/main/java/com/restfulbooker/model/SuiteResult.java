@@ -0,0 +1,32 @@
+package com.restfulbooker.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SuiteResult {
+    private String target;
+    private int total;
+    private int passed;
+    private int failed;
+    private long duration;
+    private Map<String, TestResult> results = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getPassed() { return passed; }
+    public void setPassed(int passed) { this.passed = passed; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public long getDuration() { return duration; }
+    public void setDuration(long duration) { this.duration = duration; }
+
+    public Map<String, TestResult> getResults() { return results; }
+    public void setResults(Map<String, TestResult> results) { this.results = results; }
+}
@@ -1,29 +1,99 @@
 package com.restfulbooker.model;
 
-public class TestResult {
-    private String testName;
-    private String status;
-    private String message;
-    private int statusCode;
-    private String responseBody;
-    private long duration;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
-    // Getters and Setters
-    public String getTestName() { return testName; }
-    public void setTestName(String testName) { this.testName = testName; }
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+/**
+ * One finished check. Immutable once built, so results can be cached, streamed
+ * and kept in history without copying; engines fill in a {@link Builder} as
+ * the check runs. Written by {@link TestResultSerializer} rather than by
+ * reflection, as JSON or as CBOR for clients that ask for
+ * {@code application/cbor}.
+ */
+@JsonSerialize(using = TestResultSerializer.class)
+public record TestResult(
+        // Id of this execution; a captured body is at /api/tests/bodies/{runId}
+        long runId,
+        String target,
+        String testName,
+        String endpoint,
+        CheckStatus status,
+        String message,
+        int statusCode,
+        String responseBody,
+        boolean bodyCaptured,
+        long durationNanos,
+        PhaseTimings phases,
+        // Requests sent for this result; duration covers all of them and the waits in between
+        int attempts,
+        List<AttemptTiming> attemptTimings) {
 
-    public String getMessage() { return message; }
-    public void setMessage(String message) { this.message = message; }
+    public TestResult {
+        attemptTimings = attemptTimings == null ? null : List.copyOf(attemptTimings);
+    }
 
-    public int getStatusCode() { return statusCode; }
-    public void setStatusCode(int statusCode) { this.statusCode = statusCode; }
+    public long duration() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
 
-    public String getResponseBody() { return responseBody; }
-    public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
+    public boolean passed() {
+        return status == CheckStatus.PASSED;
+    }
 
-    public long getDuration() { return duration; }
-    public void setDuration(long duration) { this.duration = duration; }
-}
\ No newline at end of file
+    /**
+     * A result while its check runs. Names, targets and endpoints are set from
+     * the compiled check and target, so every result of a check shares their
+     * strings.
+     */
+    public static class Builder {
+        private long runId;
+        private String target;
+        private String testName;
+        private String endpoint;
+        private CheckStatus status;
+        private String message;
+        private int statusCode;
+        private String responseBody;
+        private boolean bodyCaptured;
+        private long durationNanos;
+        private PhaseTimings phases;
+        private int attempts;
+        private List<AttemptTiming> attemptTimings;
+
+        public TestResult build() {
+            return new TestResult(runId, target, testName, endpoint, status, message, statusCode, responseBody,
+                    bodyCaptured, durationNanos, phases, attempts, attemptTimings);
+        }
+
+        // Getters and Setters
+        public long getRunId() { return runId; }
+        public Builder setRunId(long runId) { this.runId = runId; return this; }
+
+        public Builder setTarget(String target) { this.target = target; return this; }
+
+        public Builder setTestName(String testName) { this.testName = testName; return this; }
+
+        public Builder setEndpoint(String endpoint) { this.endpoint = endpoint; return this; }
+
+        public CheckStatus getStatus() { return status; }
+        public Builder setStatus(CheckStatus status) { this.status = status; return this; }
+
+        public Builder setMessage(String message) { this.message = message; return this; }
+
+        public Builder setStatusCode(int statusCode) { this.statusCode = statusCode; return this; }
+
+        public Builder setResponseBody(String responseBody) { this.responseBody = responseBody; return this; }
+
+        public Builder setBodyCaptured(boolean bodyCaptured) { this.bodyCaptured = bodyCaptured; return this; }
+
+        public Builder setDurationNanos(long durationNanos) { this.durationNanos = durationNanos; return this; }
+
+        public Builder setPhases(PhaseTimings phases) { this.phases = phases; return this; }
+
+        public Builder setAttempts(int attempts) { this.attempts = attempts; return this; }
+
+        public Builder setAttemptTimings(List<AttemptTiming> attemptTimings) { this.attemptTimings = attemptTimings; return this; }
+    }
+}
@@ -0,0 +1,70 @@
+package com.restfulbooker.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link TestResult} field by field with pre-encoded names, the
+ * same shape the dashboard has always read. Works for any Jackson generator,
+ * so JSON and CBOR responses share it.
+ */
+public class TestResultSerializer extends StdSerializer<TestResult> {
+
+    private static final SerializedString RUN_ID = new SerializedString("runId");
+    private static final SerializedString TARGET = new SerializedString("target");
+    private static final SerializedString TEST_NAME = new SerializedString("testName");
+    private static final SerializedString ENDPOINT = new SerializedString("endpoint");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString STATUS_CODE = new SerializedString("statusCode");
+    private static final SerializedString RESPONSE_BODY = new SerializedString("responseBody");
+    private static final SerializedString BODY_CAPTURED = new SerializedString("bodyCaptured");
+    private static final SerializedString DURATION = new SerializedString("duration");
+    private static final SerializedString DURATION_NANOS = new SerializedString("durationNanos");
+    private static final SerializedString PHASES = new SerializedString("phases");
+    private static final SerializedString ATTEMPTS = new SerializedString("attempts");
+    private static final SerializedString ATTEMPT_TIMINGS = new SerializedString("attemptTimings");
+
+    public TestResultSerializer() {
+        super(TestResult.class);
+    }
+
+    @Override
+    public void serialize(TestResult result, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(result, 14);
+        gen.writeFieldName(RUN_ID);
+        gen.writeNumber(result.runId());
+        gen.writeFieldName(TARGET);
+        gen.writeString(result.target());
+        gen.writeFieldName(TEST_NAME);
+        gen.writeString(result.testName());
+        gen.writeFieldName(ENDPOINT);
+        gen.writeString(result.endpoint());
+        gen.writeFieldName(STATUS);
+        gen.writeString(result.status() != null ? result.status().name() : null);
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(result.message());
+        gen.writeFieldName(STATUS_CODE);
+        gen.writeNumber(result.statusCode());
+        gen.writeFieldName(RESPONSE_BODY);
+        gen.writeString(result.responseBody());
+        gen.writeFieldName(BODY_CAPTURED);
+        gen.writeBoolean(result.bodyCaptured());
+        gen.writeFieldName(DURATION);
+        gen.writeNumber(result.duration());
+        gen.writeFieldName(DURATION_NANOS);
+        gen.writeNumber(result.durationNanos());
+        // Small beans that are often absent; Jackson's cached serializers are fine for them
+        gen.writeFieldName(PHASES);
+        provider.defaultSerializeValue(result.phases(), gen);
+        gen.writeFieldName(ATTEMPTS);
+        gen.writeNumber(result.attempts());
+        gen.writeFieldName(ATTEMPT_TIMINGS);
+        provider.defaultSerializeValue(result.attemptTimings(), gen);
+        gen.writeEndObject();
+    }
+}
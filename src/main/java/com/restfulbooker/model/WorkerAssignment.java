@@ -0,0 +1,14 @@
+package com.restfulbooker.model;
+
+public class WorkerAssignment {
+    private String runId;
+    private LoadProfile profile;
+
+    // Getters and Setters
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    // This worker's share: one target, its part of the rate and virtual users
+    public LoadProfile getProfile() { return profile; }
+    public void setProfile(LoadProfile profile) { this.profile = profile; }
+}
@@ -0,0 +1,24 @@
+package com.restfulbooker.model;
+
+public class WorkerInfo {
+    private String id;
+    private String url;
+    private long lastSeen;
+    private boolean live;
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    // Base URL the coordinator sends assignments to, e.g. http://10.0.0.5:8081
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+
+    // Epoch millis of the last registration heartbeat
+    public long getLastSeen() { return lastSeen; }
+    public void setLastSeen(long lastSeen) { this.lastSeen = lastSeen; }
+
+    // Heard from within the last three heartbeats, so new runs include it
+    public boolean isLive() { return live; }
+    public void setLive(boolean live) { this.live = live; }
+}
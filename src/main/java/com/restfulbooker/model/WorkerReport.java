@@ -0,0 +1,50 @@
+package com.restfulbooker.model;
+
+import java.util.Map;
+
+public class WorkerReport {
+    private String runId;
+    private String workerId;
+    private boolean running;
+    private int inFlight;
+    private long started;
+    private long completed;
+    private long failed;
+    private long dropped;
+    private String latency;
+    private Map<String, String> checks;
+
+    // Getters and Setters (counters are increments since the worker's previous report)
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    public String getWorkerId() { return workerId; }
+    public void setWorkerId(String workerId) { this.workerId = workerId; }
+
+    // False on the worker's last report for the run
+    public boolean isRunning() { return running; }
+    public void setRunning(boolean running) { this.running = running; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+
+    public long getStarted() { return started; }
+    public void setStarted(long started) { this.started = started; }
+
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    // Scenario latency (nanoseconds) over the interval, as a compressed, base64 HdrHistogram
+    public String getLatency() { return latency; }
+    public void setLatency(String latency) { this.latency = latency; }
+
+    // The same per scenario check, keyed by test name
+    public Map<String, String> getChecks() { return checks; }
+    public void setChecks(Map<String, String> checks) { this.checks = checks; }
+}
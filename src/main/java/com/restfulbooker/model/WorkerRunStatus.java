@@ -0,0 +1,60 @@
+package com.restfulbooker.model;
+
+public class WorkerRunStatus {
+    private String workerId;
+    private String target;
+    private double targetRps;
+    private int maxVirtualUsers;
+    private boolean running;
+    private long started;
+    private long completed;
+    private long failed;
+    private long dropped;
+    private int inFlight;
+    private long reports;
+    private long lastReport;
+    private String error;
+
+    // Getters and Setters
+    public String getWorkerId() { return workerId; }
+    public void setWorkerId(String workerId) { this.workerId = workerId; }
+
+    // The worker's share of the run
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public double getTargetRps() { return targetRps; }
+    public void setTargetRps(double targetRps) { this.targetRps = targetRps; }
+
+    public int getMaxVirtualUsers() { return maxVirtualUsers; }
+    public void setMaxVirtualUsers(int maxVirtualUsers) { this.maxVirtualUsers = maxVirtualUsers; }
+
+    public boolean isRunning() { return running; }
+    public void setRunning(boolean running) { this.running = running; }
+
+    public long getStarted() { return started; }
+    public void setStarted(long started) { this.started = started; }
+
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+
+    public long getReports() { return reports; }
+    public void setReports(long reports) { this.reports = reports; }
+
+    // Epoch millis of the last report received
+    public long getLastReport() { return lastReport; }
+    public void setLastReport(long lastReport) { this.lastReport = lastReport; }
+
+    // Why the worker did not take its share, or stopped reporting
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
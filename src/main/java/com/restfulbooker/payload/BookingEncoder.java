@@ -0,0 +1,140 @@
+package com.restfulbooker.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Writes booking bodies with a reusable streaming generator and byte buffer.
+ * Field names and enumerated values are pre-encoded {@link SerializedString}s
+ * and dates are formatted into a scratch char array, so the only allocation
+ * per payload is the returned array. Encoders are pooled because checks run on
+ * virtual threads, where a thread-local would never be reused.
+ */
+final class BookingEncoder {
+
+    private static final JsonFactory FACTORY = new JsonFactory().setRootValueSeparator(null);
+    private static final ConcurrentLinkedQueue<BookingEncoder> POOL = new ConcurrentLinkedQueue<>();
+
+    private static final SerializedString FIRSTNAME = new SerializedString("firstname");
+    private static final SerializedString LASTNAME = new SerializedString("lastname");
+    private static final SerializedString TOTALPRICE = new SerializedString("totalprice");
+    private static final SerializedString DEPOSITPAID = new SerializedString("depositpaid");
+    private static final SerializedString BOOKINGDATES = new SerializedString("bookingdates");
+    private static final SerializedString CHECKIN = new SerializedString("checkin");
+    private static final SerializedString CHECKOUT = new SerializedString("checkout");
+    private static final SerializedString ADDITIONALNEEDS = new SerializedString("additionalneeds");
+
+    private final ByteArrayBuilder buffer = new ByteArrayBuilder(512);
+    private final JsonGenerator generator;
+    private final char[] date = new char[10];
+
+    private BookingEncoder() {
+        try {
+            generator = FACTORY.createGenerator(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static BookingEncoder acquire() {
+        BookingEncoder encoder = POOL.poll();
+        return encoder != null ? encoder : new BookingEncoder();
+    }
+
+    void release() {
+        buffer.reset();
+        POOL.offer(this);
+    }
+
+    byte[] encode(SerializableString firstname, SerializableString lastname, int totalPrice, boolean depositPaid,
+                  long checkinEpochDay, long checkoutEpochDay, SerializableString additionalNeeds) {
+        try {
+            generator.writeStartObject();
+            generator.writeFieldName(FIRSTNAME);
+            generator.writeString(firstname);
+            generator.writeFieldName(LASTNAME);
+            generator.writeString(lastname);
+            writeCommon(totalPrice, depositPaid, checkinEpochDay, checkoutEpochDay);
+            generator.writeFieldName(ADDITIONALNEEDS);
+            generator.writeString(additionalNeeds);
+            return finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // For values read from a file, which arrive as strings anyway
+    byte[] encode(String firstname, String lastname, int totalPrice, boolean depositPaid,
+                  long checkinEpochDay, long checkoutEpochDay, String additionalNeeds) {
+        try {
+            generator.writeStartObject();
+            generator.writeFieldName(FIRSTNAME);
+            generator.writeString(firstname);
+            generator.writeFieldName(LASTNAME);
+            generator.writeString(lastname);
+            writeCommon(totalPrice, depositPaid, checkinEpochDay, checkoutEpochDay);
+            if (additionalNeeds != null && !additionalNeeds.isEmpty()) {
+                generator.writeFieldName(ADDITIONALNEEDS);
+                generator.writeString(additionalNeeds);
+            }
+            return finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCommon(int totalPrice, boolean depositPaid, long checkinEpochDay, long checkoutEpochDay)
+            throws IOException {
+        generator.writeFieldName(TOTALPRICE);
+        generator.writeNumber(totalPrice);
+        generator.writeFieldName(DEPOSITPAID);
+        generator.writeBoolean(depositPaid);
+        generator.writeFieldName(BOOKINGDATES);
+        generator.writeStartObject();
+        generator.writeFieldName(CHECKIN);
+        writeDate(checkinEpochDay);
+        generator.writeFieldName(CHECKOUT);
+        writeDate(checkoutEpochDay);
+        generator.writeEndObject();
+    }
+
+    private byte[] finish() throws IOException {
+        generator.writeEndObject();
+        generator.flush();
+        byte[] payload = buffer.toByteArray();
+        buffer.reset();
+        return payload;
+    }
+
+    // yyyy-MM-dd from days since 1970-01-01 (proleptic Gregorian, Howard Hinnant's civil_from_days)
+    private void writeDate(long epochDay) throws IOException {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        date[0] = (char) ('0' + year / 1000 % 10);
+        date[1] = (char) ('0' + year / 100 % 10);
+        date[2] = (char) ('0' + year / 10 % 10);
+        date[3] = (char) ('0' + year % 10);
+        date[4] = '-';
+        date[5] = (char) ('0' + month / 10);
+        date[6] = (char) ('0' + month % 10);
+        date[7] = '-';
+        date[8] = (char) ('0' + day / 10);
+        date[9] = (char) ('0' + day % 10);
+        generator.writeString(date, 0, date.length);
+    }
+}
@@ -0,0 +1,50 @@
+package com.restfulbooker.payload;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The configured {@link BookingSource}, or none when {@code payload.source}
+ * is {@code static}, in which case checks keep their definition's body.
+ */
+@Service
+public class BookingPayloads {
+
+    private final BookingSource source;
+
+    public BookingPayloads(PayloadProperties properties) throws IOException {
+        this.source = switch (properties.getSource()) {
+            case "static" -> null;
+            case "random" -> new RandomBookingSource(properties.getSeed(), properties.getMinPrice(),
+                    properties.getMaxPrice(), properties.getFirstCheckin(), properties.getCheckinDays(),
+                    properties.getMaxNights());
+            case "file" -> {
+                if (properties.getFile() == null || properties.getFile().isBlank()) {
+                    throw new IllegalStateException("payload.source=file needs payload.file");
+                }
+                yield new FileBookingSource(Path.of(properties.getFile()));
+            }
+            default -> throw new IllegalStateException("Unknown payload.source: " + properties.getSource());
+        };
+        if (source != null) {
+            System.err.println("Booking payloads from " + properties.getSource() + " source");
+        }
+    }
+
+    /**
+     * The next generated body, or {@code fallback} when no source is configured.
+     */
+    public byte[] next(byte[] fallback) {
+        return source != null ? source.next() : fallback;
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (source instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.restfulbooker.payload;
+
+/**
+ * An endless stream of serialized booking bodies. Implementations are
+ * thread-safe; each call returns a fresh array the caller may hand to a request.
+ */
+public interface BookingSource {
+
+    byte[] next();
+}
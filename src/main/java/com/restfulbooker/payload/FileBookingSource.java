@@ -0,0 +1,137 @@
+package com.restfulbooker.payload;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bookings read from a file one record at a time, starting over at the end,
+ * so any file size works with constant memory. A {@code .jsonl} line is sent
+ * as-is; a {@code .csv} row (header: firstname, lastname, totalprice,
+ * depositpaid, checkin, checkout and optionally additionalneeds; no quoting)
+ * is written out as a booking body.
+ */
+public class FileBookingSource implements BookingSource, AutoCloseable {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("firstname", "lastname", "totalprice", "depositpaid", "checkin", "checkout");
+
+    private final Path file;
+    private final boolean csv;
+    private final int[] columns = new int[7];
+    private InputStream in;
+    private byte[] line = new byte[1024];
+    private int lineLength;
+
+    public FileBookingSource(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(".csv") && !name.endsWith(".jsonl")) {
+            throw new IllegalArgumentException("Booking file must be .csv or .jsonl: " + file);
+        }
+        this.file = file;
+        this.csv = name.endsWith(".csv");
+        open();
+        if (!readLine()) {
+            throw new IllegalArgumentException("No bookings in " + file);
+        }
+        // Fail on a malformed first record now rather than on the first request
+        next(Arrays.copyOf(line, lineLength));
+        open();
+    }
+
+    @Override
+    public byte[] next() {
+        byte[] record;
+        synchronized (this) {
+            try {
+                if (!readLine()) {
+                    open();
+                    readLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            record = Arrays.copyOf(line, lineLength);
+        }
+        return next(record);
+    }
+
+    private byte[] next(byte[] record) {
+        if (!csv) {
+            return record;
+        }
+        String[] fields = new String(record, StandardCharsets.UTF_8).split(",", -1);
+        BookingEncoder encoder = BookingEncoder.acquire();
+        try {
+            return encoder.encode(
+                    fields[columns[0]].trim(),
+                    fields[columns[1]].trim(),
+                    Integer.parseInt(fields[columns[2]].trim()),
+                    Boolean.parseBoolean(fields[columns[3]].trim()),
+                    LocalDate.parse(fields[columns[4]].trim()).toEpochDay(),
+                    LocalDate.parse(fields[columns[5]].trim()).toEpochDay(),
+                    columns[6] >= 0 && columns[6] < fields.length ? fields[columns[6]].trim() : null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid booking row in " + file + ": " + e.getMessage(), e);
+        } finally {
+            encoder.release();
+        }
+    }
+
+    private void open() throws IOException {
+        close();
+        in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        if (csv) {
+            if (!readLine()) {
+                throw new IllegalArgumentException("No header row in " + file);
+            }
+            List<String> header = Arrays.stream(new String(line, 0, lineLength, StandardCharsets.UTF_8).split(","))
+                    .map(String::trim).toList();
+            for (int i = 0; i < REQUIRED_COLUMNS.size(); i++) {
+                columns[i] = header.indexOf(REQUIRED_COLUMNS.get(i));
+                if (columns[i] < 0) {
+                    throw new IllegalArgumentException("Missing column " + REQUIRED_COLUMNS.get(i) + " in " + file);
+                }
+            }
+            columns[6] = header.indexOf("additionalneeds");
+        }
+    }
+
+    // Reads the next non-blank line into the line buffer, without the line terminator
+    private boolean readLine() throws IOException {
+        while (true) {
+            lineLength = 0;
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[lineLength++] = (byte) b;
+            }
+            if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                lineLength--;
+            }
+            if (lineLength > 0) {
+                return true;
+            }
+            if (b == -1) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+}
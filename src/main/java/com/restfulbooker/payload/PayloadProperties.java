@@ -0,0 +1,54 @@
+package com.restfulbooker.payload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Booking payload settings from {@code payload.*}. {@code static} keeps the
+ * bodies written in the check definitions; {@code random} and {@code file}
+ * replace them for checks marked {@code bodySource: booking}.
+ */
+@Component
+@ConfigurationProperties(prefix = "payload")
+public class PayloadProperties {
+
+    private String source = "static";
+    private long seed = 42;
+    private String file;
+    private int minPrice = 50;
+    private int maxPrice = 1500;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate firstCheckin = LocalDate.of(2025, 1, 1);
+    private int checkinDays = 365;
+    private int maxNights = 14;
+
+    // Getters and Setters
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    // A .csv file with a header row, or a .jsonl file with one booking per line
+    public String getFile() { return file; }
+    public void setFile(String file) { this.file = file; }
+
+    public int getMinPrice() { return minPrice; }
+    public void setMinPrice(int minPrice) { this.minPrice = minPrice; }
+
+    public int getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(int maxPrice) { this.maxPrice = maxPrice; }
+
+    public LocalDate getFirstCheckin() { return firstCheckin; }
+    public void setFirstCheckin(LocalDate firstCheckin) { this.firstCheckin = firstCheckin; }
+
+    // Check-in dates fall within this many days of first-checkin
+    public int getCheckinDays() { return checkinDays; }
+    public void setCheckinDays(int checkinDays) { this.checkinDays = checkinDays; }
+
+    public int getMaxNights() { return maxNights; }
+    public void setMaxNights(int maxNights) { this.maxNights = maxNights; }
+}
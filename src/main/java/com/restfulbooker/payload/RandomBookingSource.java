@@ -0,0 +1,93 @@
+package com.restfulbooker.payload;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded pseudo-random bookings. Payload {@code n} depends only on the seed
+ * and {@code n}, so concurrent callers share one sequence without locking and
+ * two runs with the same seed send the same set of bookings.
+ */
+public class RandomBookingSource implements BookingSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final SerializedString[] FIRSTNAMES = encode(
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Ana",
+            "Wei", "Mei", "Hiroshi", "Yuki", "Amit", "Priya", "Olusegun", "Amara", "Søren", "Zoë");
+    private static final SerializedString[] LASTNAMES = encode(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Wilson", "Anderson", "Taylor", "Thomas", "Moore", "Jackson", "Martin", "Lee",
+            "Nguyen", "Chen", "Tanaka", "Sato", "Patel", "Sharma", "Okafor", "Adeyemi", "Müller", "O'Brien");
+    private static final SerializedString[] ADDITIONAL_NEEDS = encode(
+            "Breakfast", "Lunch", "Dinner", "Late checkout", "Early checkin", "Airport transfer", "Parking",
+            "Extra bed", "Cot", "None");
+
+    private final long seed;
+    private final int minPrice;
+    private final int priceRange;
+    private final long firstCheckin;
+    private final int checkinDays;
+    private final int maxNights;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RandomBookingSource(long seed, int minPrice, int maxPrice, LocalDate firstCheckin, int checkinDays,
+                               int maxNights) {
+        if (maxPrice < minPrice || checkinDays < 1 || maxNights < 1) {
+            throw new IllegalArgumentException("Invalid payload ranges");
+        }
+        this.seed = seed;
+        this.minPrice = minPrice;
+        this.priceRange = maxPrice - minPrice + 1;
+        this.firstCheckin = firstCheckin.toEpochDay();
+        this.checkinDays = checkinDays;
+        this.maxNights = maxNights;
+    }
+
+    @Override
+    public byte[] next() {
+        return generate(sequence.getAndIncrement());
+    }
+
+    byte[] generate(long index) {
+        // Every field draws from its own mix of the state, so no two fields move together
+        long state = mix(seed + index * GOLDEN_GAMMA);
+        long checkin = firstCheckin + pick(mix(state), checkinDays);
+        long checkout = checkin + 1 + pick(mix(state + 1), maxNights);
+
+        BookingEncoder encoder = BookingEncoder.acquire();
+        try {
+            return encoder.encode(
+                    FIRSTNAMES[pick(mix(state + 2), FIRSTNAMES.length)],
+                    LASTNAMES[pick(mix(state + 3), LASTNAMES.length)],
+                    minPrice + pick(mix(state + 4), priceRange),
+                    (mix(state + 5) & 1) == 0,
+                    checkin, checkout,
+                    ADDITIONAL_NEEDS[pick(mix(state + 6), ADDITIONAL_NEEDS.length)]);
+        } finally {
+            encoder.release();
+        }
+    }
+
+    private static int pick(long random, int bound) {
+        return (int) Long.remainderUnsigned(random, bound);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static SerializedString[] encode(String... values) {
+        SerializedString[] encoded = new SerializedString[values.length];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = new SerializedString(values[i]);
+        }
+        return encoded;
+    }
+}
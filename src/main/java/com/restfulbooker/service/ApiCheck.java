@@ -0,0 +1,36 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.TestResult;
+
+/**
+ * The ten built-in dashboard checks, keyed by the id used in the /api/tests/{id}
+ * endpoints and in {@code checks.yaml}, which defines what each one sends and expects.
+ */
+public enum ApiCheck {
+    HEALTH("health", "Health Check"),
+    CREATE_BOOKING("create-booking", "Create Booking"),
+    GET_BOOKING("get-booking", "Get Booking by ID"),
+    GET_ALL_BOOKINGS("get-all-bookings", "Get All Bookings"),
+    GET_BOOKINGS_BY_NAME("get-bookings-by-name", "Get Bookings by Name"),
+    UPDATE_BOOKING("update-booking", "Update Booking (PUT)"),
+    PARTIAL_UPDATE("partial-update", "Partial Update (PATCH)"),
+    DELETE_BOOKING("delete-booking", "Delete Booking"),
+    INVALID_DATA("invalid-data", "Create Booking with Invalid Data"),
+    NON_EXISTENT("non-existent", "Get Non-Existent Booking");
+
+    private final String id;
+    private final String displayName;
+
+    ApiCheck(String id, String displayName) {
+        this.id = id;
+        this.displayName = displayName;
+    }
+
+    public String getId() { return id; }
+
+    public String getDisplayName() { return displayName; }
+
+    public TestResult run(ApiTestService service, TestRunContext context) {
+        return service.run(id, context);
+    }
+}
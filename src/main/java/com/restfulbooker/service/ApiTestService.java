@@ -1,424 +1,356 @@
 package com.restfulbooker.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.restfulbooker.capture.BodyCapture;
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.check.JsonAssertion;
+import com.restfulbooker.http.PhaseTimer;
+import com.restfulbooker.payload.BookingPayloads;
+import com.restfulbooker.model.AttemptTiming;
+import com.restfulbooker.model.CheckStatus;
 import com.restfulbooker.model.TestResult;
-import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import static io.restassured.RestAssured.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 @Service
 public class ApiTestService {
 
-    private static String baseUrl = "https://restful-booker.herokuapp.com";
-    private static String authToken;
-    private static Integer bookingId;
+    private static final int SAMPLE_IDS = 5;
+    private static final ObjectReader JSON = new ObjectMapper().reader();
+    private static final Set<Method> IDEMPOTENT = EnumSet.of(Method.GET, Method.HEAD, Method.OPTIONS, Method.PUT);
+    private static final Set<Integer> RETRY_STATUSES = Set.of(429, 502, 503, 504);
 
-    public ApiTestService() {
-        RestAssured.baseURI = baseUrl;
-        initializeAuth();
-    }
-
-    private void initializeAuth() {
-        try {
-            authToken = given()
-                    .contentType(ContentType.JSON)
-                    .body("{\n" +
-                            "    \"username\": \"admin\",\n" +
-                            "    \"password\": \"password123\"\n" +
-                            "}")
-                    .when()
-                    .post("/auth")
-                    .then()
-                    .statusCode(200)
-                    .extract()
-                    .path("token");
-        } catch (Exception e) {
-            System.err.println("Failed to get auth token: " + e.getMessage());
-        }
-    }
-
-    public TestResult testHealthCheck() {
-        TestResult result = new TestResult();
-        result.setTestName("Health Check");
-        long startTime = System.currentTimeMillis();
-
-        try {
-            Response response = given()
-                    .when()
-                    .get("/ping");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 201) {
-                result.setStatus("PASSED");
-                result.setMessage("API is healthy and responding");
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Unexpected status code: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
-        }
-
-        return result;
-    }
+    // Latency stats, result history and anything else that wants every finished result
+    @Autowired
+    private List<TestResultListener> resultListeners;
 
-    public TestResult testCreateBooking() {
-        TestResult result = new TestResult();
-        result.setTestName("Create Booking");
-        long startTime = System.currentTimeMillis();
+    @Autowired
+    private TargetRegistry targets;
 
-        try {
-            String requestBody = "{\n" +
-                    "    \"firstname\": \"John\",\n" +
-                    "    \"lastname\": \"Doe\",\n" +
-                    "    \"totalprice\": 150,\n" +
-                    "    \"depositpaid\": true,\n" +
-                    "    \"bookingdates\": {\n" +
-                    "        \"checkin\": \"2024-12-01\",\n" +
-                    "        \"checkout\": \"2024-12-10\"\n" +
-                    "    },\n" +
-                    "    \"additionalneeds\": \"Breakfast\"\n" +
-                    "}";
-
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .body(requestBody)
-                    .when()
-                    .post("/booking");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 200) {
-                bookingId = response.path("bookingid");
-                result.setStatus("PASSED");
-                result.setMessage("Booking created successfully with ID: " + bookingId);
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to create booking");
-            }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
-        }
+    @Autowired
+    private CheckCatalog catalog;
 
-        return result;
-    }
+    @Autowired
+    private BookingPayloads payloads;
 
-    public TestResult testGetBooking() {
-        TestResult result = new TestResult();
-        result.setTestName("Get Booking by ID");
-        long startTime = System.currentTimeMillis();
+    @Autowired
+    private TargetGuards guards;
 
-        try {
-            if (bookingId == null) {
-                testCreateBooking();
-            }
+    @Autowired
+    private PolicyProperties policy;
 
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .when()
-                    .get("/booking/" + bookingId);
+    @Autowired
+    private BodyCapture bodyCapture;
 
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
+    // Contexts shared by the individual dashboard endpoints, one per target; suite runs get their own
+    private final Map<String, TestRunContext> sharedContexts = new ConcurrentHashMap<>();
+    private final AtomicLong runIds = new AtomicLong();
 
-            if (response.getStatusCode() == 200) {
-                result.setStatus("PASSED");
-                result.setMessage("Successfully retrieved booking ID: " + bookingId);
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to retrieve booking");
-            }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
-        }
+    public TestRunContext getSharedContext(String target) {
+        BookerTarget bookerTarget = targets.get(target);
+        return sharedContexts.computeIfAbsent(bookerTarget.getName(), name -> new TestRunContext(bookerTarget));
+    }
 
-        return result;
+    public TestResult run(String checkId, TestRunContext context) {
+        return run(catalog.get(checkId), context);
     }
 
-    public TestResult testGetAllBookings() {
-        TestResult result = new TestResult();
-        result.setTestName("Get All Bookings");
-        long startTime = System.currentTimeMillis();
+    /**
+     * Runs a compiled check: sends its prepared request, verifies the status
+     * code and assertions, and keeps or clears the run's booking as the
+     * definition says. Every result, including ERROR, goes to the listeners.
+     */
+    public TestResult run(CompiledCheck check, TestRunContext context) {
+        TestResult.Builder result = newResult(check, context);
+        long startTime = System.nanoTime();
+        PhaseTimer.start();
 
         try {
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .when()
-                    .get("/booking");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-
-            if (response.getStatusCode() == 200) {
-                int count = response.jsonPath().getList("$").size();
-                result.setStatus("PASSED");
-                result.setMessage("Retrieved " + count + " bookings");
-                result.setResponseBody("Total bookings: " + count);
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to retrieve bookings");
+            if (check.requires() != null && context.getBookingId() == null) {
+                run(check.requires(), context);
             }
+            Integer bookingId = context.getBookingId();
+            String path = check.path().render(name -> bookingId);
+
+            Response response = execute(check, context, path, result);
+
+            recordDuration(result, startTime);
+            verify(check, context, bookingId, response.getStatusCode(), new ResponseBody() {
+                @Override
+                public byte[] bytes() {
+                    return response.asByteArray();
+                }
+
+                @Override
+                public InputStream stream() {
+                    return response.asInputStream();
+                }
+            }, result);
+        } catch (CircuitOpenException e) {
+            // No request went out, so there is no duration to skew the latency stats with
+            result.setStatus(CheckStatus.ERROR);
+            result.setMessage(e.getMessage());
         } catch (Exception e) {
-            result.setStatus("ERROR");
+            result.setStatus(CheckStatus.ERROR);
             result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+            recordDuration(result, startTime);
         }
 
-        return result;
+        result.setPhases(PhaseTimer.finish());
+        return publish(result.build());
     }
 
-    public TestResult testGetBookingsByName() {
-        TestResult result = new TestResult();
-        result.setTestName("Get Bookings by Name");
-        long startTime = System.currentTimeMillis();
+    TestResult.Builder newResult(CompiledCheck check, TestRunContext context) {
+        return new TestResult.Builder()
+                .setRunId(runIds.incrementAndGet())
+                .setTestName(check.name())
+                .setEndpoint(check.endpoint())
+                .setTarget(context.getTarget().getName());
+    }
 
-        try {
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .queryParam("firstname", "John")
-                    .queryParam("lastname", "Doe")
-                    .when()
-                    .get("/booking");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-
-            if (response.getStatusCode() == 200) {
-                int count = response.jsonPath().getList("$").size();
-                result.setStatus("PASSED");
-                result.setMessage("Found " + count + " bookings matching John Doe");
-                result.setResponseBody("Matching bookings: " + count);
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to filter bookings");
+    /**
+     * Verifies a response the same way whichever engine sent the request: the
+     * status code, then the booking list scan or the JSON assertions. Keeps or
+     * clears the run's booking, fills in status and message, and hands the
+     * body to capture.
+     */
+    void verify(CompiledCheck check, TestRunContext context, Integer bookingId, int statusCode,
+                ResponseBody response, TestResult.Builder result) throws IOException {
+        result.setStatusCode(statusCode);
+
+        BookingListScanner.Summary summary = null;
+        JsonNode json = null;
+        String failure = null;
+        byte[] body;
+        long totalBytes;
+        if (statusCode != check.expectedStatus()) {
+            failure = check.fail().render(name -> variable(name, statusCode, bookingId, null));
+            body = response.bytes();
+            totalBytes = body.length;
+        } else if (check.scanBookingList()) {
+            try (InputStream stream = response.stream()) {
+                summary = BookingListScanner.scan(stream, SAMPLE_IDS, bodyCapture.captureLimit());
+            }
+            body = summary.capturedBody().getBytes(StandardCharsets.UTF_8);
+            totalBytes = summary.totalBytes();
+            if (check.validBookingIds() && summary.invalid() > 0) {
+                failure = summary.invalid() + " of " + summary.count() + " bookings have no valid bookingid";
+            }
+        } else {
+            body = response.bytes();
+            totalBytes = body.length;
+            if (check.needsJson()) {
+                json = JSON.readTree(body);
+                for (JsonAssertion assertion : check.assertions()) {
+                    failure = assertion.check(json);
+                    if (failure != null) {
+                        break;
+                    }
+                }
             }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
         }
 
-        return result;
-    }
-
-    public TestResult testUpdateBooking() {
-        TestResult result = new TestResult();
-        result.setTestName("Update Booking (PUT)");
-        long startTime = System.currentTimeMillis();
-
-        try {
-            if (bookingId == null) {
-                testCreateBooking();
+        if (failure == null) {
+            if (check.captureBookingId() != null) {
+                JsonNode id = json.at(check.captureBookingId());
+                context.setBookingId(id.canConvertToInt() ? id.asInt() : null);
             }
-
-            String updateBody = "{\n" +
-                    "    \"firstname\": \"Jane\",\n" +
-                    "    \"lastname\": \"Smith\",\n" +
-                    "    \"totalprice\": 200,\n" +
-                    "    \"depositpaid\": false,\n" +
-                    "    \"bookingdates\": {\n" +
-                    "        \"checkin\": \"2024-12-15\",\n" +
-                    "        \"checkout\": \"2024-12-20\"\n" +
-                    "    },\n" +
-                    "    \"additionalneeds\": \"Lunch\"\n" +
-                    "}";
-
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .header("Cookie", "token=" + authToken)
-                    .body(updateBody)
-                    .when()
-                    .put("/booking/" + bookingId);
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 200) {
-                result.setStatus("PASSED");
-                result.setMessage("Booking updated successfully to Jane Smith");
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to update booking");
+            Integer messageId = check.captureBookingId() != null ? context.getBookingId() : bookingId;
+            BookingListScanner.Summary scanned = summary;
+            result.setStatus(CheckStatus.PASSED);
+            result.setMessage(check.pass().render(name -> variable(name, statusCode, messageId, scanned)));
+            if (check.clearsBooking()) {
+                context.setBookingId(null);
             }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+        } else {
+            result.setStatus(CheckStatus.FAILED);
+            result.setMessage(failure);
         }
-
-        return result;
+        bodyCapture.capture(result, body, body.length, totalBytes);
     }
 
-    public TestResult testPartialUpdate() {
-        TestResult result = new TestResult();
-        result.setTestName("Partial Update (PATCH)");
-        long startTime = System.currentTimeMillis();
-
-        try {
-            if (bookingId == null) {
-                testCreateBooking();
+    /**
+     * Sends the check's request, retrying while the check's policy allows:
+     * GET, HEAD, OPTIONS and PUT checks (or any check with its own
+     * {@code maxAttempts}) retry on no response and on 429/502/503/504; other
+     * checks only retry when the connection failed before anything was sent.
+     * Retries wait a jittered, doubling backoff and spend the target's retry
+     * budget; every attempt feeds the target's circuit breaker.
+     */
+    private Response execute(CompiledCheck check, TestRunContext context, String path, TestResult.Builder result)
+            throws Exception {
+        BookerTarget target = context.getTarget();
+        TargetGuards.Guard guard = guards.of(target);
+        boolean repeatable = repeatable(check);
+        int maxAttempts = maxAttempts(check, context);
+        List<AttemptTiming> attempts = new ArrayList<>(1);
+        result.setAttemptTimings(attempts);
+        guard.budget().deposit();
+
+        long wait = guard.breaker().tryAcquire(System.nanoTime());
+        if (wait > 0) {
+            throw circuitOpen(target, wait);
+        }
+        for (int attempt = 1; ; attempt++) {
+            AttemptTiming timing = new AttemptTiming();
+            timing.setAttempt(attempt);
+            attempts.add(timing);
+            result.setAttempts(attempt);
+
+            long startTime = System.nanoTime();
+            Response response = null;
+            Exception error = null;
+            try {
+                response = check.auth()
+                        ? withToken(context, token -> send(check, context, path, token))
+                        : send(check, context, path, null);
+                timing.setStatusCode(response.getStatusCode());
+            } catch (Exception e) {
+                error = e;
+                timing.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
             }
+            timing.setDurationNanos(System.nanoTime() - startTime);
 
-            String partialUpdate = "{\n" +
-                    "    \"firstname\": \"Michael\",\n" +
-                    "    \"lastname\": \"Johnson\"\n" +
-                    "}";
-
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .header("Cookie", "token=" + authToken)
-                    .body(partialUpdate)
-                    .when()
-                    .patch("/booking/" + bookingId);
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 200) {
-                result.setStatus("PASSED");
-                result.setMessage("Partial update successful - name changed to Michael Johnson");
+            if (error != null || response.getStatusCode() >= 500) {
+                guard.breaker().onFailure(System.nanoTime());
             } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to partially update booking");
+                guard.breaker().onSuccess();
             }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+            boolean retryable = error != null
+                    ? repeatable || neverSent(error)
+                    : repeatable && retryableStatus(response.getStatusCode());
+            // A circuit that opened meanwhile ends the retries with this attempt's outcome
+            if (!retryable || attempt >= maxAttempts || !guard.budget().tryWithdraw()
+                    || guard.breaker().tryAcquire(System.nanoTime()) > 0) {
+                if (error != null) {
+                    throw error;
+                }
+                return response;
+            }
+            if (response != null) {
+                // Hands the connection back to the pool before waiting
+                response.asByteArray();
+            }
+            long backoff = backoff(attempt);
+            timing.setBackoffNanos(backoff);
+            TimeUnit.NANOSECONDS.sleep(backoff);
         }
+    }
 
-        return result;
+    // Failures that happen before the request is written, so even a POST can safely go again
+    private static boolean neverSent(Exception e) {
+        return e instanceof ConnectException || e instanceof ConnectTimeoutException
+                || e instanceof ConnectionPoolTimeoutException;
     }
 
-    public TestResult testDeleteBooking() {
-        TestResult result = new TestResult();
-        result.setTestName("Delete Booking");
-        long startTime = System.currentTimeMillis();
+    boolean repeatable(CompiledCheck check) {
+        return check.policy().maxAttempts() != null || IDEMPOTENT.contains(check.method());
+    }
 
-        try {
-            if (bookingId == null) {
-                testCreateBooking();
-            }
+    int maxAttempts(CompiledCheck check, TestRunContext context) {
+        if (context.isSingleAttempt()) {
+            return 1;
+        }
+        return check.policy().maxAttempts() != null ? check.policy().maxAttempts() : policy.getMaxAttempts();
+    }
 
-            int idToDelete = bookingId;
+    static boolean retryableStatus(int statusCode) {
+        return RETRY_STATUSES.contains(statusCode);
+    }
 
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .header("Cookie", "token=" + authToken)
-                    .when()
-                    .delete("/booking/" + idToDelete);
+    static CircuitOpenException circuitOpen(BookerTarget target, long waitNanos) {
+        return new CircuitOpenException("Circuit open for target " + target.getName() + ", failing fast for "
+                + Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos)) + "s");
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
+    // Full jitter: anywhere up to the doubled backoff, so checks that failed together retry apart
+    long backoff(int attempt) {
+        long ceiling = Math.min(policy.getMaxBackoff().toNanos(), policy.getBackoff().toNanos() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
 
-            if (response.getStatusCode() == 201) {
-                result.setStatus("PASSED");
-                result.setMessage("Booking " + idToDelete + " deleted successfully");
-                result.setResponseBody("Deleted");
-                bookingId = null;
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Failed to delete booking");
-            }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+    private Response send(CompiledCheck check, TestRunContext context, String path, String token) {
+        RequestSpecification request = context.getTarget()
+                .request(check.policy().connectTimeout(), check.policy().readTimeout())
+                .contentType(ContentType.JSON);
+        if (token != null) {
+            request.header("Cookie", "token=" + token);
         }
-
-        return result;
+        if (!check.query().isEmpty()) {
+            request.queryParams(check.query());
+        }
+        byte[] body = check.generatedBody() ? payloads.next(check.body()) : check.body();
+        if (body != null) {
+            request.body(body);
+        }
+        return request.request(check.method(), path);
     }
 
-    public TestResult testInvalidData() {
-        TestResult result = new TestResult();
-        result.setTestName("Create Booking with Invalid Data");
-        long startTime = System.currentTimeMillis();
+    private static Object variable(String name, int statusCode, Integer bookingId, BookingListScanner.Summary summary) {
+        return switch (name) {
+            case "bookingId" -> bookingId;
+            case "statusCode" -> statusCode;
+            case "count" -> summary != null ? summary.count() : null;
+            case "invalid" -> summary != null ? summary.invalid() : null;
+            case "sampleIds" -> summary != null ? summary.sampleIds() : null;
+            default -> null;
+        };
+    }
 
-        try {
-            String invalidBody = "{\n" +
-                    "    \"firstname\": \"Test\"\n" +
-                    "}";
-
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .body(invalidBody)
-                    .when()
-                    .post("/booking");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 500) {
-                result.setStatus("PASSED");
-                result.setMessage("API correctly rejected invalid data with 500 error");
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Expected 500 error for invalid data");
+    // A 403 means the cached token was rejected: refresh it once and retry
+    private Response withToken(TestRunContext context, Function<String, Response> request) {
+        AuthTokenProvider tokenProvider = context.getTarget().getTokenProvider();
+        String token = tokenProvider.getToken();
+        Response response = request.apply(token);
+        if (response.getStatusCode() == 403) {
+            tokenProvider.invalidate(token);
+            if (context.isSingleAttempt()) {
+                return response;
             }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+            response = request.apply(tokenProvider.getToken());
         }
-
-        return result;
+        return response;
     }
 
-    public TestResult testNonExistent() {
-        TestResult result = new TestResult();
-        result.setTestName("Get Non-Existent Booking");
-        long startTime = System.currentTimeMillis();
+    static void recordDuration(TestResult.Builder result, long startTime) {
+        result.setDurationNanos(System.nanoTime() - startTime);
+    }
 
-        try {
-            Response response = given()
-                    .contentType(ContentType.JSON)
-                    .when()
-                    .get("/booking/999999");
-
-            long duration = System.currentTimeMillis() - startTime;
-            result.setDuration(duration);
-            result.setStatusCode(response.getStatusCode());
-            result.setResponseBody(response.getBody().asString());
-
-            if (response.getStatusCode() == 404) {
-                result.setStatus("PASSED");
-                result.setMessage("API correctly returned 404 for non-existent booking");
-            } else {
-                result.setStatus("FAILED");
-                result.setMessage("Expected 404 for non-existent booking");
-            }
-        } catch (Exception e) {
-            result.setStatus("ERROR");
-            result.setMessage("Exception: " + e.getMessage());
-            result.setDuration(System.currentTimeMillis() - startTime);
+    TestResult publish(TestResult result) {
+        for (TestResultListener listener : resultListeners) {
+            listener.onResult(result);
         }
-
         return result;
     }
+
+    // A response body as each engine holds it: read whole, or streamed by the booking list scan
+    interface ResponseBody {
+        byte[] bytes() throws IOException;
+
+        InputStream stream() throws IOException;
+    }
 }
\ No newline at end of file
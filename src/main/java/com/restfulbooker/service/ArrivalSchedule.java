@@ -0,0 +1,79 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.LoadProfile;
+
+/**
+ * Open-model arrival times for a ramp-up / steady / ramp-down rate profile.
+ * Arrival {@code k} is due when the integral of the rate reaches {@code k}, so
+ * the schedule is fixed up front and never waits on responses.
+ */
+public class ArrivalSchedule {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double rps;
+    private final double rampUp;
+    private final double steady;
+    private final double rampDown;
+    private final double limit;
+
+    public ArrivalSchedule(LoadProfile profile) {
+        this.rps = profile.getTargetRps();
+        this.rampUp = profile.getRampUpSeconds();
+        this.steady = profile.getSteadySeconds();
+        this.rampDown = profile.getRampDownSeconds();
+        double total = rampUp + steady + rampDown;
+        this.limit = profile.getMaxDurationSeconds() > 0 ? Math.min(total, profile.getMaxDurationSeconds()) : total;
+    }
+
+    /**
+     * Offset from the start of the run at which arrival {@code k} is due, or -1
+     * once the profile (or the duration limit) is exhausted.
+     */
+    public long intendedStartNanos(long k) {
+        if (rps <= 0) {
+            return -1;
+        }
+        double rampUpArrivals = rps * rampUp / 2;
+        double steadyArrivals = rps * steady;
+        double rampDownArrivals = rps * rampDown / 2;
+        double seconds;
+
+        if (k < rampUpArrivals) {
+            seconds = Math.sqrt(2 * rampUp * k / rps);
+        } else if (k < rampUpArrivals + steadyArrivals) {
+            seconds = rampUp + (k - rampUpArrivals) / rps;
+        } else if (k < rampUpArrivals + steadyArrivals + rampDownArrivals) {
+            double remaining = k - rampUpArrivals - steadyArrivals;
+            seconds = rampUp + steady + rampDown - Math.sqrt(Math.max(0, rampDown * rampDown - 2 * rampDown * remaining / rps));
+        } else {
+            return -1;
+        }
+        return seconds > limit ? -1 : (long) (seconds * NANOS_PER_SECOND);
+    }
+
+    public double rateAt(long elapsedNanos) {
+        double t = (double) elapsedNanos / NANOS_PER_SECOND;
+        if (t >= limit) {
+            return 0;
+        }
+        if (t < rampUp) {
+            return rps * t / rampUp;
+        }
+        if (t < rampUp + steady) {
+            return rps;
+        }
+        return rps * (rampUp + steady + rampDown - t) / rampDown;
+    }
+
+    public String phaseAt(long elapsedNanos) {
+        double t = (double) elapsedNanos / NANOS_PER_SECOND;
+        if (t >= limit) {
+            return "DONE";
+        }
+        if (t < rampUp) {
+            return "RAMP_UP";
+        }
+        return t < rampUp + steady ? "STEADY" : "RAMP_DOWN";
+    }
+}
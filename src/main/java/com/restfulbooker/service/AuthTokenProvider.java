@@ -0,0 +1,155 @@
+package com.restfulbooker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caches the /auth token and refreshes it in the background before it
+ * expires, or as soon as a check reports it was rejected. Concurrent callers
+ * that need a token while a login is running all wait on that same login.
+ * Each {@link BookerTarget} has its own provider.
+ */
+public class AuthTokenProvider {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String target;
+    private final Supplier<RequestSpecification> requests;
+    private final String username;
+    // Serialized once; credentials may hold quotes or backslashes
+    private final byte[] loginBody;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+    private final ExecutorService loginExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService refresher;
+
+    private volatile String token;
+    private volatile long expiresAt;
+    private CompletableFuture<String> inFlight;
+
+    public AuthTokenProvider(String target, Supplier<RequestSpecification> requests,
+                             String username, String password, Duration ttl, Duration refreshAhead) {
+        this.target = target;
+        this.requests = requests;
+        this.username = username;
+        try {
+            this.loginBody = MAPPER.writeValueAsBytes(Map.of("username", username, "password", password));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "auth-token-refresher-" + target);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long checkPeriod = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(refreshAheadMillis) / 2);
+        refresher.scheduleAtFixedRate(this::refreshIfExpiring, 0, checkPeriod, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns a valid token, waiting for the in-flight login if there is none.
+     *
+     * @throws IllegalStateException if the login fails
+     */
+    public String getToken() {
+        try {
+            return getTokenAsync().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Authentication failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Like {@link #getToken()} without blocking: completes at once with the
+     * cached token, or when the in-flight login does.
+     */
+    public CompletableFuture<String> getTokenAsync() {
+        String current = token;
+        if (current != null && System.currentTimeMillis() < expiresAt) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return refresh();
+    }
+
+    /**
+     * Drops {@code rejected} if it is still the cached token, e.g. after a 403,
+     * so the next {@link #getToken()} logs in again.
+     */
+    public synchronized void invalidate(String rejected) {
+        if (rejected != null && rejected.equals(token)) {
+            token = null;
+            expiresAt = 0;
+        }
+    }
+
+    private synchronized CompletableFuture<String> refresh() {
+        CompletableFuture<String> login = inFlight;
+        if (login == null) {
+            login = CompletableFuture.supplyAsync(this::login, loginExecutor);
+            inFlight = login;
+            // May run right here if the login has already finished, so it works on the local
+            CompletableFuture<String> started = login;
+            login.whenComplete((newToken, error) -> completeRefresh(started, newToken));
+        }
+        return login;
+    }
+
+    private synchronized void completeRefresh(CompletableFuture<String> login, String newToken) {
+        if (newToken != null) {
+            token = newToken;
+            expiresAt = System.currentTimeMillis() + ttlMillis;
+        }
+        if (inFlight == login) {
+            inFlight = null;
+        }
+    }
+
+    private void refreshIfExpiring() {
+        if (token == null || System.currentTimeMillis() >= expiresAt - refreshAheadMillis) {
+            refresh().exceptionally(e -> {
+                System.err.println("Failed to refresh auth token for " + target + ": " + e.getMessage());
+                return null;
+            });
+        }
+    }
+
+    private String login() {
+        String newToken = requests.get()
+                .contentType(ContentType.JSON)
+                .body(loginBody)
+                .when()
+                .post("/auth")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("token");
+        // Restful Booker answers bad credentials with 200 and a "reason" instead of a token
+        if (newToken == null) {
+            throw new IllegalStateException("No token returned for user " + username + " on " + target);
+        }
+        return newToken;
+    }
+
+    public void shutdown() {
+        refresher.shutdownNow();
+        loginExecutor.shutdownNow();
+    }
+}
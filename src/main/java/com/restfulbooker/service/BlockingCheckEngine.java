@@ -0,0 +1,33 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.TestResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Assured on a virtual thread per check, admitted by {@link CheckExecutor}.
+ */
+@Service
+public class BlockingCheckEngine implements CheckEngine {
+
+    public static final String NAME = "blocking";
+
+    @Autowired
+    private ApiTestService testService;
+
+    @Autowired
+    private CheckExecutor checkExecutor;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Mono<TestResult> run(CompiledCheck check, TestRunContext context) {
+        return Mono.fromFuture(() -> checkExecutor.submit(context.getTarget().getName(), check.name(),
+                () -> testService.run(check, context)));
+    }
+}
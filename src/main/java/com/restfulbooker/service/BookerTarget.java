@@ -0,0 +1,87 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.http.HttpClientPool;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.params.CoreConnectionPNames;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One booker environment: its base URL, its own connection pool and its own
+ * cached auth token. Requests are built from a per-target specification
+ * instead of the global {@code RestAssured.baseURI}, so checks against
+ * different targets can run side by side in one JVM.
+ */
+public class BookerTarget {
+
+    private final String name;
+    private final String baseUrl;
+    private final HttpClientPool pool;
+    private final RequestSpecification spec;
+    private final AuthTokenProvider tokenProvider;
+    // A handful of distinct (connect, read) pairs at most, one per check policy
+    private final Map<List<Duration>, RestAssuredConfig> timeoutConfigs = new ConcurrentHashMap<>();
+
+    BookerTarget(String name, String baseUrl, HttpClientPool pool, String username, String password,
+                 Duration tokenTtl, Duration refreshAhead) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.pool = pool;
+        this.spec = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(pool.getClientFactory())))
+                .build();
+        this.tokenProvider = new AuthTokenProvider(name, this::request, username, password, tokenTtl, refreshAhead);
+    }
+
+    /**
+     * Starts a request against this target, on this target's connection pool.
+     */
+    public RequestSpecification request() {
+        return RestAssured.given().spec(spec);
+    }
+
+    /**
+     * Like {@link #request()}, with the connect and read timeouts overridden
+     * where given; {@code null} keeps the pool's {@code http.timeout.*} default.
+     */
+    @SuppressWarnings("deprecation")
+    public RequestSpecification request(Duration connectTimeout, Duration readTimeout) {
+        if (connectTimeout == null && readTimeout == null) {
+            return request();
+        }
+        RestAssuredConfig config = timeoutConfigs.computeIfAbsent(Arrays.asList(connectTimeout, readTimeout), key -> {
+            HttpClientConfig httpClient = HttpClientConfig.httpClientConfig().httpClientFactory(pool.getClientFactory());
+            if (connectTimeout != null) {
+                httpClient = httpClient.setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, (int) connectTimeout.toMillis());
+            }
+            if (readTimeout != null) {
+                httpClient = httpClient.setParam(CoreConnectionPNames.SO_TIMEOUT, (int) readTimeout.toMillis());
+            }
+            return RestAssuredConfig.config().httpClient(httpClient);
+        });
+        return request().config(config);
+    }
+
+    public String getName() { return name; }
+
+    public String getBaseUrl() { return baseUrl; }
+
+    public HttpClientPool getPool() { return pool; }
+
+    public AuthTokenProvider getTokenProvider() { return tokenProvider; }
+
+    void shutdown() {
+        tokenProvider.shutdown();
+        pool.shutdown();
+    }
+}
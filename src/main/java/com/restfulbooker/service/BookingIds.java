@@ -0,0 +1,45 @@
+package com.restfulbooker.service;
+
+import java.util.Arrays;
+
+/**
+ * Booking ids created by a seeding run, kept in a growable {@code int[]} so
+ * tracking a hundred thousand bookings costs about 400 KB rather than a boxed
+ * list several times that size.
+ */
+final class BookingIds {
+
+    private int[] ids = new int[64];
+    private int size;
+
+    synchronized void add(int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[size++] = id;
+    }
+
+    synchronized void addAll(int[] more, int count) {
+        if (size + count > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, size + count));
+        }
+        System.arraycopy(more, 0, ids, size, count);
+        size += count;
+    }
+
+    /**
+     * Removes and returns every tracked id; whatever a teardown fails to delete is added back.
+     */
+    synchronized int[] drain() {
+        int[] drained = Arrays.copyOf(ids, size);
+        size = 0;
+        if (ids.length > 1024) {
+            ids = new int[64];
+        }
+        return drained;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
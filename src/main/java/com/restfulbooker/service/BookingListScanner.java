@@ -0,0 +1,112 @@
+package com.restfulbooker.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Token-level scan of a {@code [{"bookingid": 1}, ...]} response. Counts and
+ * validates the entries and samples a few ids straight off the stream, so a
+ * list of hundreds of thousands of bookings is never materialised. Only the
+ * first {@code captureLimit} bytes of the raw body are kept.
+ */
+class BookingListScanner {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    record Summary(int count, int invalid, int[] sampleIds, String capturedBody, boolean truncated, long totalBytes) {
+    }
+
+    private BookingListScanner() {
+    }
+
+    static Summary scan(InputStream body, int sampleSize, int captureLimit) throws IOException {
+        CapturingInputStream in = new CapturingInputStream(body, captureLimit);
+        int count = 0;
+        int invalid = 0;
+        int[] sample = new int[sampleSize];
+        int sampled = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of bookings");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                boolean valid = false;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("bookingid".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                        valid = true;
+                        if (sampled < sampleSize) {
+                            sample[sampled++] = parser.getIntValue();
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                count++;
+                if (!valid) {
+                    invalid++;
+                }
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException("Unexpected " + token + " in booking list");
+            }
+            // Drain whatever follows the array so the connection can be reused
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return new Summary(count, invalid, Arrays.copyOf(sample, sampled), in.captured(),
+                in.total > in.captured, in.total);
+    }
+
+    private static class CapturingInputStream extends FilterInputStream {
+        private final byte[] capture;
+        private int captured;
+        private long total;
+
+        CapturingInputStream(InputStream in, int limit) {
+            super(in);
+            this.capture = new byte[limit];
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                keep(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                keep(buffer, offset, n);
+            }
+            return n;
+        }
+
+        private void keep(byte[] buffer, int offset, int n) {
+            total += n;
+            int room = Math.min(n, capture.length - captured);
+            if (room > 0) {
+                System.arraycopy(buffer, offset, capture, captured, room);
+                captured += room;
+            }
+        }
+
+        String captured() {
+            return new String(capture, 0, captured, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.restfulbooker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.model.SeedResult;
+import com.restfulbooker.payload.BookingPayloads;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates bookings in bulk ahead of a run and deletes them all afterwards.
+ * Up to {@code concurrency} requests are in flight at once over the target's
+ * keep-alive pool, each on its own virtual thread, and the next one starts as
+ * soon as any finishes. Created ids are tracked per target until a teardown
+ * deletes them; deletes are retried with backoff, and any that still fail stay
+ * tracked for the next teardown, or the one when the application shuts down.
+ */
+@Service
+public class BookingSeeder {
+
+    private static final ObjectReader JSON = new ObjectMapper().reader();
+
+    private final TargetRegistry targets;
+    private final BookingPayloads payloads;
+    private final byte[] fallbackBody;
+    private final int maxConcurrency;
+    private final int retries;
+    private final long retryBackoffMillis;
+    private final boolean teardownOnShutdown;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<BookerTarget, BookingIds> seeded = new ConcurrentHashMap<>();
+
+    public BookingSeeder(TargetRegistry targets, BookingPayloads payloads, CheckCatalog catalog,
+                         @Value("${seed.max-concurrency:32}") int maxConcurrency,
+                         @Value("${seed.retries:3}") int retries,
+                         @Value("${seed.retry-backoff:200ms}") Duration retryBackoff,
+                         @Value("${seed.teardown-on-shutdown:true}") boolean teardownOnShutdown) {
+        this.targets = targets;
+        this.payloads = payloads;
+        this.fallbackBody = catalog.get(ApiCheck.CREATE_BOOKING.getId()).body();
+        this.maxConcurrency = maxConcurrency;
+        this.retries = retries;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.teardownOnShutdown = teardownOnShutdown;
+    }
+
+    /**
+     * Creates {@code count} bookings on {@code target}. Creates are not retried:
+     * a create whose response was lost may still have made a booking, and a
+     * retry would leave that one untracked.
+     */
+    public CompletableFuture<SeedResult> seed(BookerTarget target, int count, Integer concurrency) {
+        if (count < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "count must be at least 1");
+        }
+        BookingIds ids = idsOf(target);
+        int window = window(concurrency);
+        return CompletableFuture.supplyAsync(() -> run("seed", target, count, window,
+                (index, tally) -> create(target, ids, tally)), executor);
+    }
+
+    /**
+     * Deletes every booking seeded on {@code target} so far.
+     */
+    public CompletableFuture<SeedResult> teardown(BookerTarget target, Integer concurrency) {
+        int window = window(concurrency);
+        return CompletableFuture.supplyAsync(() -> teardownNow(target, window), executor);
+    }
+
+    // Seeded bookings still waiting for a teardown, by target
+    public Map<String, Integer> tracked() {
+        Map<String, Integer> tracked = new LinkedHashMap<>();
+        for (BookerTarget target : targets.getAll()) {
+            BookingIds ids = seeded.get(target);
+            tracked.put(target.getName(), ids != null ? ids.size() : 0);
+        }
+        return tracked;
+    }
+
+    SeedResult teardownNow(BookerTarget target, int window) {
+        BookingIds tracked = idsOf(target);
+        int[] ids = tracked.drain();
+        int[] failed = new int[ids.length];
+        AtomicInteger failedCount = new AtomicInteger();
+        SeedResult result = run("teardown", target, ids.length, window, (index, tally) -> {
+            if (delete(target, ids[index], tally)) {
+                return true;
+            }
+            failed[failedCount.getAndIncrement()] = ids[index];
+            return false;
+        });
+        tracked.addAll(failed, failedCount.get());
+        result.setTracked(tracked.size());
+        return result;
+    }
+
+    private int window(Integer concurrency) {
+        return concurrency == null || concurrency < 1 ? maxConcurrency : Math.min(concurrency, maxConcurrency);
+    }
+
+    private BookingIds idsOf(BookerTarget target) {
+        return seeded.computeIfAbsent(target, t -> new BookingIds());
+    }
+
+    // Starts each request as soon as a slot in the window frees up, then waits for the last ones to finish
+    private SeedResult run(String operation, BookerTarget target, int count, int window, Task task) {
+        Tally tally = new Tally();
+        Semaphore inFlight = new Semaphore(window);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            inFlight.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    if (task.run(index, tally)) {
+                        tally.succeeded.incrementAndGet();
+                    } else {
+                        tally.failed.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    tally.failed.incrementAndGet();
+                    tally.lastError = e.getMessage();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquireUninterruptibly(window);
+        long elapsed = System.nanoTime() - startTime;
+
+        SeedResult result = new SeedResult();
+        result.setTarget(target.getName());
+        result.setOperation(operation);
+        result.setRequested(count);
+        result.setSucceeded(tally.succeeded.get());
+        result.setFailed(tally.failed.get());
+        result.setRetries(tally.retries.get());
+        result.setConcurrency(window);
+        result.setTracked(idsOf(target).size());
+        result.setDuration(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        result.setRequestsPerSecond(elapsed > 0 ? (count + tally.retries.get()) * 1e9 / elapsed : 0);
+        result.setLastError(tally.lastError);
+        return result;
+    }
+
+    private boolean create(BookerTarget target, BookingIds ids, Tally tally) {
+        try {
+            Response response = target.request()
+                    .contentType(ContentType.JSON)
+                    .body(payloads.next(fallbackBody))
+                    .post("/booking");
+            byte[] body = response.asByteArray();
+            if (response.getStatusCode() != 200) {
+                tally.lastError = "POST /booking returned " + response.getStatusCode();
+                return false;
+            }
+            JsonNode id = JSON.readTree(body).get("bookingid");
+            if (id == null || !id.canConvertToInt()) {
+                tally.lastError = "POST /booking returned no bookingid";
+                return false;
+            }
+            ids.add(id.asInt());
+            return true;
+        } catch (Exception e) {
+            tally.lastError = "POST /booking failed: " + e.getMessage();
+            return false;
+        }
+    }
+
+    // 405 is how the booker answers a delete of an id that is already gone, so it counts as done
+    private boolean delete(BookerTarget target, int id, Tally tally) {
+        AuthTokenProvider tokenProvider = target.getTokenProvider();
+        for (int attempt = 0; ; attempt++) {
+            String token = null;
+            try {
+                token = tokenProvider.getToken();
+                Response response = target.request()
+                        .header("Cookie", "token=" + token)
+                        .delete("/booking/" + id);
+                // Reading the body is what hands the connection back to the pool
+                response.asByteArray();
+                int status = response.getStatusCode();
+                if (status == 201 || status == 404 || status == 405) {
+                    return true;
+                }
+                if (status == 403) {
+                    tokenProvider.invalidate(token);
+                }
+                tally.lastError = "DELETE /booking/" + id + " returned " + status;
+            } catch (Exception e) {
+                tally.lastError = "DELETE /booking/" + id + " failed: " + e.getMessage();
+            }
+            if (attempt >= retries) {
+                return false;
+            }
+            tally.retries.incrementAndGet();
+            if (!backOff(attempt)) {
+                return false;
+            }
+        }
+    }
+
+    // Full jitter, so deletes that failed together do not all come back at the same moment
+    private boolean backOff(int attempt) {
+        long ceiling = retryBackoffMillis << Math.min(attempt, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Runs before any bean is destroyed, while the target pools (and the emulator) are still up
+    @EventListener(ContextClosedEvent.class)
+    public void teardownAll() {
+        if (!teardownOnShutdown) {
+            return;
+        }
+        seeded.forEach((target, ids) -> {
+            if (ids.size() > 0) {
+                SeedResult result = teardownNow(target, maxConcurrency);
+                System.err.println("Deleted " + result.getSucceeded() + " seeded bookings on " + target.getName()
+                        + (result.getTracked() > 0 ? ", " + result.getTracked() + " left behind" : ""));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private interface Task {
+        boolean run(int index, Tally tally);
+    }
+
+    private static class Tally {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private volatile String lastError;
+    }
+}
@@ -0,0 +1,66 @@
+package com.restfulbooker.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Shares recent results of read-only checks between dashboard viewers. Results
+ * are kept for {@code dashboard.cache.ttl} in a Caffeine cache bounded to
+ * {@code dashboard.cache.max-size} entries (W-TinyLFU eviction), and callers
+ * asking for a result that is still running wait on that same run, so a burst
+ * of viewers costs the target one request. Checks that change the target or
+ * depend on a run's booking always run, and ERROR results are not kept.
+ */
+@Service
+public class CheckCache {
+
+    private final AsyncCache<Key, TestResult> cache;
+
+    public CheckCache(@Value("${dashboard.cache.ttl:5s}") Duration ttl,
+                      @Value("${dashboard.cache.max-size:1000}") long maxSize,
+                      MeterRegistry registry) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache, "check-results");
+    }
+
+    /**
+     * Returns the cached or in-flight result of {@code check} on {@code target}
+     * run by {@code engine}, or starts {@code run} and shares its result.
+     */
+    public CompletableFuture<TestResult> get(String target, String engine, CompiledCheck check,
+                                             Supplier<CompletableFuture<TestResult>> run) {
+        if (cache == null || !check.readOnly()) {
+            return run.get();
+        }
+        Key key = new Key(target, engine, check.id());
+        CompletableFuture<TestResult> result = cache.get(key, (k, executor) -> run.get());
+        result.thenAccept(finished -> {
+            if (finished.status() == CheckStatus.ERROR) {
+                // Only this run's entry: a newer one may already have replaced it
+                cache.asMap().remove(key, result);
+            }
+        });
+        return result;
+    }
+
+    private record Key(String target, String engine, String checkId) {}
+}
@@ -0,0 +1,22 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.TestResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends a compiled check against a run's target and verifies the response.
+ * Every engine produces the same results, feeds the same listeners and
+ * honours the same retry policy and circuit breaker; they differ only in how
+ * the request is sent. Pick one per request with {@code ?engine=<name>}.
+ */
+public interface CheckEngine {
+
+    String getName();
+
+    /**
+     * Runs the check when subscribed. Never completes with an error: failures
+     * are ERROR results.
+     */
+    Mono<TestResult> run(CompiledCheck check, TestRunContext context);
+}
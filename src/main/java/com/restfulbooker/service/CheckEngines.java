@@ -0,0 +1,51 @@
+package com.restfulbooker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The available {@link CheckEngine}s by name, with {@code checks.engine.default}
+ * used when a request does not pick one.
+ */
+@Service
+public class CheckEngines {
+
+    private final Map<String, CheckEngine> engines = new LinkedHashMap<>();
+    private final CheckEngine defaultEngine;
+
+    public CheckEngines(List<CheckEngine> engines, @Value("${checks.engine.default:blocking}") String defaultEngine) {
+        engines.forEach(engine -> this.engines.put(engine.getName(), engine));
+        this.defaultEngine = this.engines.get(defaultEngine);
+        if (this.defaultEngine == null) {
+            throw new IllegalArgumentException("checks.engine.default is " + defaultEngine
+                    + ", expected one of " + this.engines.keySet());
+        }
+    }
+
+    /**
+     * Returns the named engine, or the default one when {@code name} is empty.
+     *
+     * @throws ResponseStatusException with 400 if there is no such engine
+     */
+    public CheckEngine get(String name) {
+        if (name == null || name.isBlank()) {
+            return defaultEngine;
+        }
+        CheckEngine engine = engines.get(name);
+        if (engine == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown engine: " + name);
+        }
+        return engine;
+    }
+
+    public List<String> getNames() {
+        return new ArrayList<>(engines.keySet());
+    }
+}
@@ -0,0 +1,90 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs checks on virtual threads so an upstream round trip never pins a
+ * servlet thread. At most {@code maxConcurrency} checks talk to the target at
+ * once; up to {@code maxQueued} more wait for a permit, anything beyond that is
+ * rejected with an ERROR result instead of piling up.
+ */
+@Service
+public class CheckExecutor {
+
+    @Autowired
+    private ApiTestService testService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+
+    public CheckExecutor(@Value("${checks.executor.max-concurrency:200}") int maxConcurrency,
+                         @Value("${checks.executor.max-queued:10000}") int maxQueued) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxPending = maxConcurrency + maxQueued;
+    }
+
+    public CompletableFuture<TestResult> submit(ApiCheck check, TestRunContext context) {
+        return submit(context.getTarget().getName(), check.getDisplayName(), () -> check.run(testService, context));
+    }
+
+    public CompletableFuture<TestResult> submit(String target, String testName, Supplier<TestResult> check) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return CompletableFuture.completedFuture(errorResult(target, testName, "Check queue is full, try again later"));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+                running.incrementAndGet();
+                try {
+                    return check.get();
+                } finally {
+                    running.decrementAndGet();
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return errorResult(target, testName, "Interrupted while waiting to run");
+            } finally {
+                pending.decrementAndGet();
+            }
+        }, executor);
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getQueued() {
+        return pending.get() - running.get();
+    }
+
+    private TestResult errorResult(String target, String testName, String message) {
+        return new TestResult.Builder()
+                .setTarget(target)
+                .setTestName(testName)
+                .setStatus(CheckStatus.ERROR)
+                .setMessage(message)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
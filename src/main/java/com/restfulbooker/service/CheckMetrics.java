@@ -0,0 +1,79 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes every check result to Micrometer as a {@code booker.check} timer and a
+ * {@code booker.check.results} counter, tagged by target, test, status and HTTP
+ * status code. By default the timer computes {@code metrics.checks.percentiles}
+ * in-process; {@code metrics.checks.histogram=true} exports histogram buckets
+ * instead, for percentiles aggregated across instances with
+ * {@code histogram_quantile} (Prometheus cannot carry both on one timer).
+ */
+@Service
+public class CheckMetrics implements TestResultListener {
+
+    private final MeterRegistry registry;
+    private final double[] percentiles;
+    private final boolean histogram;
+
+    // Meters are looked up once per tag combination, not built on every result
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    public CheckMetrics(MeterRegistry registry,
+                        @Value("${metrics.checks.percentiles:0.5,0.9,0.99}") double[] percentiles,
+                        @Value("${metrics.checks.histogram:false}") boolean histogram) {
+        this.registry = registry;
+        this.percentiles = percentiles;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void onResult(TestResult result) {
+        Key key = new Key(result.target(), result.testName(), result.status(), result.statusCode());
+        Meters entry = meters.computeIfAbsent(key, this::register);
+        entry.results.increment();
+        // Errors thrown before the request was sent have no duration worth timing
+        if (result.durationNanos() > 0) {
+            entry.timer.record(result.durationNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Meters register(Key key) {
+        Tags tags = Tags.of(
+                "target", key.target() != null ? key.target() : "none",
+                "test", key.testName() != null ? key.testName() : "none",
+                "status", key.status() != null ? key.status().name() : "none",
+                "http_status", key.statusCode() > 0 ? String.valueOf(key.statusCode()) : "none");
+        Timer timer = Timer.builder("booker.check")
+                .description("Duration of booker API checks")
+                .tags(tags)
+                // Buckets replace the client-side percentiles rather than adding to them
+                .publishPercentiles(histogram ? new double[0] : percentiles)
+                .publishPercentileHistogram(histogram)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+        Counter results = Counter.builder("booker.check.results")
+                .description("Booker API check results")
+                .tags(tags)
+                .register(registry);
+        return new Meters(timer, results);
+    }
+
+    private record Key(String target, String testName, CheckStatus status, int statusCode) {}
+
+    private record Meters(Timer timer, Counter results) {}
+}
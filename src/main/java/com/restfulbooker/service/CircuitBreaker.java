@@ -0,0 +1,72 @@
+package com.restfulbooker.service;
+
+/**
+ * Per-target breaker that opens after {@code failureThreshold} consecutive
+ * failed attempts (no response, or a 5xx) and fails checks fast for
+ * {@code openNanos}. After that one trial attempt is let through: success
+ * closes the breaker, failure opens it again.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long rejected;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * Returns 0 if an attempt may go ahead, otherwise the nanos until the
+     * breaker lets a trial through (at least 1).
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        switch (state) {
+            case CLOSED:
+                return 0;
+            case OPEN:
+                long remaining = openedAt + openNanos - nowNanos;
+                if (remaining <= 0) {
+                    state = State.HALF_OPEN;
+                    return 0;
+                }
+                rejected++;
+                return remaining;
+            default:
+                // The trial attempt is still out
+                rejected++;
+                return 1;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure(long nowNanos) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = nowNanos;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,11 @@
+package com.restfulbooker.service;
+
+/**
+ * Thrown instead of sending a request while the target's circuit breaker is open.
+ */
+class CircuitOpenException extends RuntimeException {
+
+    CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,165 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.LatencyStats;
+import com.restfulbooker.model.PhaseTimings;
+import com.restfulbooker.model.TestResult;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency distributions per target, test and endpoint. Checks record into a
+ * wait-free {@link Recorder}; readers fold the recorder's interval histogram
+ * into the current window, which {@link #reset()} closes and starts over.
+ * Durations include retries, and each entry counts the attempts behind them.
+ */
+@Service
+public class LatencyStatsStore implements TestResultListener {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String[] PHASES = {"dns", "connect", "tls", "ttfb", "download"};
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long windowStart = System.currentTimeMillis();
+
+    @Override
+    public void onResult(TestResult result) {
+        record(result);
+    }
+
+    public void record(TestResult result) {
+        if (result.durationNanos() <= 0) {
+            return;
+        }
+        String key = result.target() + " " + result.testName() + " " + result.endpoint();
+        Entry entry = entries.computeIfAbsent(key,
+                k -> new Entry(result.target(), result.testName(), result.endpoint()));
+        entry.recorder.recordValue(result.durationNanos());
+        entry.attempts.add(Math.max(1, result.attempts()));
+        if (result.attempts() > 1) {
+            entry.retried.increment();
+        }
+
+        PhaseTimings phases = result.phases();
+        if (phases != null) {
+            recordPhase(entry, 0, phases.getDnsNanos());
+            recordPhase(entry, 1, phases.getConnectNanos());
+            recordPhase(entry, 2, phases.getTlsNanos());
+            recordPhase(entry, 3, phases.getTtfbNanos());
+            recordPhase(entry, 4, phases.getDownloadNanos());
+        }
+    }
+
+    // Phases that did not happen (e.g. no TLS on a reused connection) are not recorded as zero
+    private void recordPhase(Entry entry, int phase, long nanos) {
+        if (nanos > 0) {
+            entry.phaseRecorders[phase].recordValue(nanos);
+        }
+    }
+
+    public List<LatencyStats> snapshot() {
+        return collect(false);
+    }
+
+    /**
+     * Closes the current window and returns its final statistics.
+     */
+    public synchronized List<LatencyStats> reset() {
+        List<LatencyStats> closed = collect(true);
+        windowStart = System.currentTimeMillis();
+        return closed;
+    }
+
+    private List<LatencyStats> collect(boolean reset) {
+        List<LatencyStats> stats = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Entry entry : entries.values()) {
+            synchronized (entry) {
+                LatencyStats entryStats = toStats(entry.testName, entry.endpoint, entry.drain(reset), windowStart, now);
+                entryStats.setTarget(entry.target);
+                entryStats.setAttempts(reset ? entry.attempts.sumThenReset() : entry.attempts.sum());
+                entryStats.setRetried(reset ? entry.retried.sumThenReset() : entry.retried.sum());
+                entryStats.setPhases(new LinkedHashMap<>());
+                for (int i = 0; i < PHASES.length; i++) {
+                    Histogram phase = entry.phaseWindows[i].drain(entry.phaseRecorders[i], reset);
+                    if (phase.getTotalCount() > 0) {
+                        entryStats.getPhases().put(PHASES[i], toStats(PHASES[i], null, phase, windowStart, now));
+                    }
+                }
+                stats.add(entryStats);
+            }
+        }
+        stats.sort(Comparator.comparing(LatencyStats::getTestName)
+                .thenComparing(LatencyStats::getTarget, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return stats;
+    }
+
+    public static LatencyStats toStats(String testName, String endpoint, Histogram histogram,
+                                       long windowStart, long windowEnd) {
+        LatencyStats stats = new LatencyStats();
+        stats.setTestName(testName);
+        stats.setEndpoint(endpoint);
+        stats.setCount(histogram.getTotalCount());
+        stats.setWindowStart(windowStart);
+        stats.setWindowEnd(windowEnd);
+        if (histogram.getTotalCount() > 0) {
+            stats.setMin(histogram.getMinValue() / NANOS_PER_MILLI);
+            stats.setMean(histogram.getMean() / NANOS_PER_MILLI);
+            stats.setP50(histogram.getValueAtPercentile(50) / NANOS_PER_MILLI);
+            stats.setP90(histogram.getValueAtPercentile(90) / NANOS_PER_MILLI);
+            stats.setP99(histogram.getValueAtPercentile(99) / NANOS_PER_MILLI);
+            stats.setP999(histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI);
+            stats.setMax(histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+        return stats;
+    }
+
+    private static class Entry {
+        private final String target;
+        private final String testName;
+        private final String endpoint;
+        private final Recorder recorder = new Recorder(3);
+        private final Window window = new Window();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final Recorder[] phaseRecorders = new Recorder[PHASES.length];
+        private final Window[] phaseWindows = new Window[PHASES.length];
+
+        Entry(String target, String testName, String endpoint) {
+            this.target = target;
+            this.testName = testName;
+            this.endpoint = endpoint;
+            for (int i = 0; i < PHASES.length; i++) {
+                phaseRecorders[i] = new Recorder(3);
+                phaseWindows[i] = new Window();
+            }
+        }
+
+        Histogram drain(boolean reset) {
+            return window.drain(recorder, reset);
+        }
+    }
+
+    private static class Window {
+        private final Histogram total = new Histogram(3);
+        private Histogram interval;
+
+        Histogram drain(Recorder recorder, boolean reset) {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            Histogram copy = total.copy();
+            if (reset) {
+                total.reset();
+            }
+            return copy;
+        }
+    }
+}
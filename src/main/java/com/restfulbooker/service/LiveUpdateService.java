@@ -0,0 +1,102 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.CheckEvent;
+import com.restfulbooker.model.LoadStatus;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes suite and load-run progress to the browser over Server-Sent Events,
+ * so the dashboard gets each result the moment it exists instead of polling.
+ * <p>
+ * Suite streams emit a {@code result} event per check, a {@code stats} event
+ * with the updated latency aggregates and a final {@code done} event with the
+ * whole {@link com.restfulbooker.model.SuiteResult}. Load streams emit a
+ * {@code status} event every second until the run ends.
+ */
+@Service
+public class LiveUpdateService {
+
+    private static final long SUITE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    @Autowired
+    private TestSuiteRunner suiteRunner;
+
+    @Autowired
+    private LatencyStatsStore latencyStats;
+
+    @Autowired
+    private LoadGenerator loadGenerator;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "live-update-ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter streamSuite(BookerTarget target) {
+        SseEmitter emitter = new SseEmitter(SUITE_TIMEOUT_MILLIS);
+        int total = ApiCheck.values().length;
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger passed = new AtomicInteger();
+
+        suiteRunner.runAll(target, (check, result) -> {
+            CheckEvent event = new CheckEvent();
+            event.setCheck(check.getId());
+            event.setResult(result);
+            event.setTotal(total);
+            event.setCompleted(completed.incrementAndGet());
+            event.setPassed(result.passed() ? passed.incrementAndGet() : passed.get());
+            event.setFailed(event.getCompleted() - event.getPassed());
+            send(emitter, "result", event);
+            send(emitter, "stats", latencyStats.snapshot());
+        }).whenComplete((suite, error) -> {
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                send(emitter, "done", suite);
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    public SseEmitter streamLoad() {
+        SseEmitter emitter = new SseEmitter(0L);
+        ScheduledFuture<?>[] task = new ScheduledFuture<?>[1];
+        task[0] = ticker.scheduleAtFixedRate(() -> {
+            LoadStatus status = loadGenerator.status();
+            if (!send(emitter, "status", status) || !status.isRunning()) {
+                task[0].cancel(false);
+                emitter.complete();
+            }
+        }, 0, 1, TimeUnit.SECONDS);
+        emitter.onCompletion(() -> task[0].cancel(false));
+        emitter.onTimeout(() -> task[0].cancel(false));
+        return emitter;
+    }
+
+    // Returns false once the client has gone away
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+}
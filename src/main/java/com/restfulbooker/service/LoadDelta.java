@@ -0,0 +1,21 @@
+package com.restfulbooker.service;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * What a load run recorded since the previous {@link LoadGenerator#delta()}:
+ * counters as increments, and scenario and per-check latency (nanoseconds)
+ * over just that interval.
+ */
+public record LoadDelta(String target,
+                        boolean running,
+                        int inFlight,
+                        long started,
+                        long completed,
+                        long failed,
+                        long dropped,
+                        Histogram latency,
+                        Map<String, Histogram> checks) {
+}
@@ -0,0 +1,274 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.LoadProfile;
+import com.restfulbooker.model.LoadStatus;
+import com.restfulbooker.model.TestResult;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.restfulbooker.service.ApiCheck.*;
+
+/**
+ * Replays the booking CRUD flow as independent virtual users at a target
+ * arrival rate. Arrivals follow a fixed open-model schedule and latency is
+ * measured from each iteration's intended start, so a slow target shows up as
+ * latency instead of silently lowering the offered load.
+ */
+@Service
+public class LoadGenerator {
+
+    private static final List<ApiCheck> SCENARIO =
+            List.of(CREATE_BOOKING, GET_BOOKING, UPDATE_BOOKING, PARTIAL_UPDATE, DELETE_BOOKING);
+
+    @Autowired
+    private ApiTestService testService;
+
+    @Autowired
+    private TargetRegistry targets;
+
+    private volatile LoadRun currentRun;
+
+    public synchronized LoadStatus start(LoadProfile profile) {
+        if (currentRun != null && currentRun.running) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A load run is already in progress");
+        }
+        validate(profile);
+        currentRun = new LoadRun(profile, targets.get(profile.getTarget()));
+        currentRun.start();
+        return currentRun.status();
+    }
+
+    /**
+     * Rejects a profile with 400 when it could never send anything: no rate, no
+     * virtual users, or a negative phase or duration.
+     */
+    public static void validate(LoadProfile profile) {
+        if (profile.getTargetRps() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "targetRps must be positive");
+        }
+        if (profile.getMaxVirtualUsers() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxVirtualUsers must be positive");
+        }
+        if (profile.getRampUpSeconds() < 0 || profile.getSteadySeconds() < 0 || profile.getRampDownSeconds() < 0
+                || profile.getMaxDurationSeconds() < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Durations must not be negative");
+        }
+    }
+
+    public synchronized LoadStatus stop() {
+        if (currentRun == null) {
+            return idleStatus();
+        }
+        currentRun.stop("Stopped by request");
+        return currentRun.status();
+    }
+
+    public LoadStatus status() {
+        LoadRun run = currentRun;
+        return run == null ? idleStatus() : run.status();
+    }
+
+    /**
+     * What the current run recorded since the previous call, or {@code null}
+     * if no run was ever started. Only one reader may use this, e.g. the
+     * cluster worker reporting to its coordinator.
+     */
+    public LoadDelta delta() {
+        LoadRun run = currentRun;
+        return run == null ? null : run.delta();
+    }
+
+    private LoadStatus idleStatus() {
+        LoadStatus status = new LoadStatus();
+        status.setPhase("IDLE");
+        status.setMessage("No load run has been started");
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        LoadRun run = currentRun;
+        if (run != null) {
+            run.stop("Application shutting down");
+        }
+    }
+
+    private class LoadRun {
+        private final LoadProfile profile;
+        private final BookerTarget target;
+        private final ArrivalSchedule schedule;
+        private final ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final Recorder latency = new Recorder(3);
+        private final Histogram latencyTotal = new Histogram(3);
+        // Read only by delta(), so each read is exactly the interval since the last one
+        private final Recorder deltaLatency = new Recorder(3);
+        private final Map<ApiCheck, Recorder> checkLatency = new EnumMap<>(ApiCheck.class);
+        private final long[] reported = new long[4];
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean running;
+        private volatile String message;
+        private volatile long startNanos;
+        private volatile long startMillis;
+        private volatile long endNanos;
+        private Thread scheduler;
+
+        LoadRun(LoadProfile profile, BookerTarget target) {
+            this.profile = profile;
+            this.target = target;
+            this.schedule = new ArrivalSchedule(profile);
+            SCENARIO.forEach(check -> checkLatency.put(check, new Recorder(3)));
+        }
+
+        void start() {
+            running = true;
+            message = "Running";
+            startNanos = System.nanoTime();
+            startMillis = System.currentTimeMillis();
+            scheduler = Thread.ofPlatform().name("load-scheduler").daemon().start(this::schedule);
+        }
+
+        void stop(String reason) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            message = reason;
+            endNanos = System.nanoTime();
+            scheduler.interrupt();
+            users.shutdownNow();
+        }
+
+        private void schedule() {
+            for (long k = 0; running; k++) {
+                long offset = schedule.intendedStartNanos(k);
+                if (offset < 0) {
+                    break;
+                }
+                long intendedStart = startNanos + offset;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0 && running) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!running) {
+                    return;
+                }
+                if (inFlight.get() >= profile.getMaxVirtualUsers()) {
+                    dropped.increment();
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                started.increment();
+                try {
+                    users.execute(() -> iterate(intendedStart));
+                } catch (RejectedExecutionException e) {
+                    // stop() shut the users down after the running check above
+                    inFlight.decrementAndGet();
+                    started.decrement();
+                    return;
+                }
+            }
+            drain();
+        }
+
+        // Lets in-flight iterations finish once the schedule is exhausted
+        private void drain() {
+            users.shutdown();
+            try {
+                users.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (LoadGenerator.this) {
+                stop("Completed");
+            }
+        }
+
+        private void iterate(long intendedStart) {
+            try {
+                TestRunContext context = new TestRunContext(target);
+                boolean passed = true;
+                for (ApiCheck check : SCENARIO) {
+                    TestResult result = check.run(testService, context);
+                    if (result.durationNanos() > 0) {
+                        checkLatency.get(check).recordValue(result.durationNanos());
+                    }
+                    if (!result.passed()) {
+                        passed = false;
+                        break;
+                    }
+                }
+                long elapsed = System.nanoTime() - intendedStart;
+                latency.recordValue(elapsed);
+                deltaLatency.recordValue(elapsed);
+                if (passed) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        LoadStatus status() {
+            long elapsed = (running ? System.nanoTime() : endNanos) - startNanos;
+            LoadStatus status = new LoadStatus();
+            status.setTarget(target.getName());
+            status.setRunning(running);
+            status.setPhase(running ? schedule.phaseAt(elapsed) : "DONE");
+            status.setMessage(message);
+            status.setElapsed(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            status.setCurrentRps(running ? schedule.rateAt(elapsed) : 0);
+            status.setStarted(started.sum());
+            status.setCompleted(completed.sum());
+            status.setFailed(failed.sum());
+            status.setDropped(dropped.sum());
+            status.setInFlight(inFlight.get());
+            synchronized (latencyTotal) {
+                latencyTotal.add(latency.getIntervalHistogram());
+                status.setLatency(LatencyStatsStore.toStats("Booking CRUD scenario", "load",
+                        latencyTotal, startMillis, System.currentTimeMillis()));
+                status.getLatency().setTarget(target.getName());
+            }
+            return status;
+        }
+
+        synchronized LoadDelta delta() {
+            // Read before the counters and histograms, so a delta that is not running with nothing
+            // in flight is the last one and includes every iteration
+            boolean stillRunning = running;
+            int stillInFlight = inFlight.get();
+            long[] totals = {started.sum(), completed.sum(), failed.sum(), dropped.sum()};
+            long[] increments = new long[totals.length];
+            for (int i = 0; i < totals.length; i++) {
+                increments[i] = totals[i] - reported[i];
+                reported[i] = totals[i];
+            }
+            Map<String, Histogram> checks = new LinkedHashMap<>();
+            checkLatency.forEach((check, recorder) -> checks.put(check.getDisplayName(), recorder.getIntervalHistogram()));
+            return new LoadDelta(target.getName(), stillRunning, stillInFlight, increments[0], increments[1],
+                    increments[2], increments[3], deltaLatency.getIntervalHistogram(), checks);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.restfulbooker.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic monitoring settings from {@code monitor.*}. Every check runs every
+ * {@code interval} unless {@code intervals.<check-id>} overrides it; a zero
+ * interval leaves that check out.
+ */
+@Component
+@ConfigurationProperties(prefix = "monitor")
+public class MonitorProperties {
+
+    private boolean enabled = false;
+    private List<String> targets = new ArrayList<>();
+    private Duration interval = Duration.ofMinutes(1);
+    private Map<String, Duration> intervals = new LinkedHashMap<>();
+    private double jitter = 0.2;
+    private double rate = 2.0;
+    private int burst = 5;
+    private int maxBackoff = 8;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    // Empty means the default target only
+    public List<String> getTargets() { return targets; }
+    public void setTargets(List<String> targets) { this.targets = targets; }
+
+    public Duration getInterval() { return interval; }
+    public void setInterval(Duration interval) { this.interval = interval; }
+
+    public Map<String, Duration> getIntervals() { return intervals; }
+    public void setIntervals(Map<String, Duration> intervals) { this.intervals = intervals; }
+
+    // Fraction of the interval each run is moved by at random, in both directions
+    public double getJitter() { return jitter; }
+    public void setJitter(double jitter) { this.jitter = jitter; }
+
+    // Requests per second across all probes and targets, and how many may go at once
+    public double getRate() { return rate; }
+    public void setRate(double rate) { this.rate = rate; }
+
+    public int getBurst() { return burst; }
+    public void setBurst(int burst) { this.burst = burst; }
+
+    // Largest multiple of its interval a slow probe is stretched to
+    public int getMaxBackoff() { return maxBackoff; }
+    public void setMaxBackoff(int maxBackoff) { this.maxBackoff = maxBackoff; }
+}
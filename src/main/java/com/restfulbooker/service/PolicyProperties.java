@@ -0,0 +1,50 @@
+package com.restfulbooker.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Retry and circuit breaker defaults from {@code checks.policy.*}. A check's
+ * own {@code policy} in its definition overrides {@code maxAttempts}; the
+ * retry budget and breaker are shared by every check against a target.
+ */
+@Component
+@ConfigurationProperties(prefix = "checks.policy")
+public class PolicyProperties {
+
+    private int maxAttempts = 3;
+    private Duration backoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(2);
+    private double retryBudgetRatio = 0.2;
+    private int retryBudgetBurst = 10;
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    // Getters and Setters
+    // Applies to GET, HEAD, OPTIONS and PUT; other methods only retry when the request was never sent
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+    // Ceiling of the first retry's jittered wait, doubled for each further retry
+    public Duration getBackoff() { return backoff; }
+    public void setBackoff(Duration backoff) { this.backoff = backoff; }
+
+    public Duration getMaxBackoff() { return maxBackoff; }
+    public void setMaxBackoff(Duration maxBackoff) { this.maxBackoff = maxBackoff; }
+
+    // Retries allowed per check sent, on top of the burst
+    public double getRetryBudgetRatio() { return retryBudgetRatio; }
+    public void setRetryBudgetRatio(double retryBudgetRatio) { this.retryBudgetRatio = retryBudgetRatio; }
+
+    public int getRetryBudgetBurst() { return retryBudgetBurst; }
+    public void setRetryBudgetBurst(int retryBudgetBurst) { this.retryBudgetBurst = retryBudgetBurst; }
+
+    // Consecutive failed attempts that open a target's circuit
+    public int getFailureThreshold() { return failureThreshold; }
+    public void setFailureThreshold(int failureThreshold) { this.failureThreshold = failureThreshold; }
+
+    public Duration getOpenDuration() { return openDuration; }
+    public void setOpenDuration(Duration openDuration) { this.openDuration = openDuration; }
+}
@@ -0,0 +1,327 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.AttemptTiming;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import com.restfulbooker.payload.BookingPayloads;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends checks with WebClient on Reactor Netty. A few event-loop threads
+ * drive every connection, so the checks in flight are bounded by each
+ * target's {@code max-connections} and pending-acquire queue rather than by
+ * threads. Verification, retries, the circuit breaker and the listeners are
+ * the blocking engine's own; bodies are read whole, up to
+ * {@code max-body-size}, before they are verified, and no phase timings are
+ * recorded. Results are verified on the event loop and handed to the
+ * listeners on the bounded elastic scheduler, since those may write to disk.
+ */
+@Service
+public class ReactiveCheckEngine implements CheckEngine {
+
+    public static final String NAME = "reactive";
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Autowired
+    private ApiTestService testService;
+
+    @Autowired
+    private CheckCatalog catalog;
+
+    @Autowired
+    private TargetGuards guards;
+
+    @Autowired
+    private BookingPayloads payloads;
+
+    private final LoopResources loops;
+    private final int maxConnections;
+    private final int maxPending;
+    private final Duration idleTimeout;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final ExchangeStrategies strategies;
+    private final Map<BookerTarget, Clients> clients = new ConcurrentHashMap<>();
+
+    public ReactiveCheckEngine(@Value("${checks.engine.reactive.event-loop-threads:0}") int eventLoopThreads,
+                               @Value("${checks.engine.reactive.max-connections:1000}") int maxConnections,
+                               @Value("${checks.engine.reactive.max-pending:100000}") int maxPending,
+                               @Value("${checks.engine.reactive.max-body-size:16MB}") DataSize maxBodySize,
+                               @Value("${http.pool.idle-timeout:60s}") Duration idleTimeout,
+                               @Value("${http.timeout.connect:5s}") Duration connectTimeout,
+                               @Value("${http.timeout.read:30s}") Duration readTimeout) {
+        this.loops = LoopResources.create("check-engine",
+                eventLoopThreads > 0 ? eventLoopThreads : LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+        this.maxConnections = maxConnections;
+        this.maxPending = maxPending;
+        this.idleTimeout = idleTimeout;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxBodySize.toBytes()))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Mono<TestResult> run(CompiledCheck check, TestRunContext context) {
+        return Mono.defer(() -> {
+            TestResult.Builder result = testService.newResult(check, context);
+            long startTime = System.nanoTime();
+            Mono<TestResult> prerequisite = check.requires() != null && context.getBookingId() == null
+                    ? run(catalog.get(check.requires()), context)
+                    : Mono.empty();
+
+            return prerequisite.then(Mono.defer(() -> {
+                Integer bookingId = context.getBookingId();
+                String path = check.path().render(name -> bookingId);
+                return new Call(check, context, path, result).start()
+                        .<TestResult>handle((exchange, sink) -> {
+                            ApiTestService.recordDuration(result, startTime);
+                            try {
+                                testService.verify(check, context, bookingId, exchange.statusCode(), exchange, result);
+                                sink.next(result.build());
+                            } catch (Exception e) {
+                                sink.error(e);
+                            }
+                        });
+            })).onErrorResume(e -> {
+                result.setStatus(CheckStatus.ERROR);
+                if (e instanceof CircuitOpenException) {
+                    // No request went out, so there is no duration to skew the latency stats with
+                    result.setMessage(e.getMessage());
+                } else {
+                    result.setMessage("Exception: " + describe(unwrap(e)));
+                    ApiTestService.recordDuration(result, startTime);
+                }
+                return Mono.just(result.build());
+            }).publishOn(Schedulers.boundedElastic()).map(testService::publish);
+        });
+    }
+
+    private Clients clientsOf(BookerTarget target) {
+        return clients.computeIfAbsent(target, Clients::new);
+    }
+
+    private Mono<Exchange> send(CompiledCheck check, BookerTarget target, String path, String token) {
+        WebClient.RequestBodySpec request = clientsOf(target).forConnectTimeout(check.policy().connectTimeout())
+                .method(HttpMethod.valueOf(check.method().name()))
+                .uri(uri -> {
+                    uri.path(path);
+                    check.query().forEach(uri::queryParam);
+                    return uri.build();
+                })
+                .contentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.header("Cookie", "token=" + token);
+        }
+        Duration checkReadTimeout = check.policy().readTimeout();
+        if (checkReadTimeout != null) {
+            request.httpRequest(r -> r.<HttpClientRequest>getNativeRequest().responseTimeout(checkReadTimeout));
+        }
+        byte[] body = check.generatedBody() ? payloads.next(check.body()) : check.body();
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+        return spec.exchangeToMono(response -> response.bodyToMono(byte[].class)
+                .defaultIfEmpty(EMPTY)
+                .map(bytes -> new Exchange(response.statusCode().value(), bytes)));
+    }
+
+    // A 403 means the cached token was rejected: refresh it once and retry
+    private Mono<Exchange> withToken(CompiledCheck check, TestRunContext context, String path) {
+        BookerTarget target = context.getTarget();
+        AuthTokenProvider tokenProvider = target.getTokenProvider();
+        return token(tokenProvider).flatMap(token -> send(check, target, path, token).flatMap(exchange -> {
+            if (exchange.statusCode() != 403) {
+                return Mono.just(exchange);
+            }
+            tokenProvider.invalidate(token);
+            if (context.isSingleAttempt()) {
+                return Mono.just(exchange);
+            }
+            return token(tokenProvider).flatMap(fresh -> send(check, target, path, fresh));
+        }));
+    }
+
+    // Never cancels the login itself: other checks may be waiting on it too
+    private static Mono<String> token(AuthTokenProvider tokenProvider) {
+        return Mono.fromFuture(tokenProvider::getTokenAsync, true)
+                .onErrorMap(e -> new IllegalStateException("Authentication failed: " + e.getMessage(), e));
+    }
+
+    // Failures that happen before the request is written: no connection, or none free in the pool in time
+    private static boolean neverSent(Throwable e) {
+        return e instanceof ConnectException || e instanceof TimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static String describe(Throwable e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.values().forEach(target -> target.provider.dispose());
+        loops.dispose();
+    }
+
+    /**
+     * One check's attempts, following the same rules as the blocking engine:
+     * retries with jittered backoff while the policy, the retry budget and the
+     * circuit breaker allow, each attempt timed and fed to the breaker.
+     */
+    private final class Call {
+        private final CompiledCheck check;
+        private final TestRunContext context;
+        private final BookerTarget target;
+        private final String path;
+        private final TestResult.Builder result;
+        private final TargetGuards.Guard guard;
+        private final boolean repeatable;
+        private final int maxAttempts;
+        private final List<AttemptTiming> attempts = new ArrayList<>(1);
+
+        Call(CompiledCheck check, TestRunContext context, String path, TestResult.Builder result) {
+            this.check = check;
+            this.context = context;
+            this.target = context.getTarget();
+            this.path = path;
+            this.result = result;
+            this.guard = guards.of(target);
+            this.repeatable = testService.repeatable(check);
+            this.maxAttempts = testService.maxAttempts(check, context);
+        }
+
+        Mono<Exchange> start() {
+            result.setAttemptTimings(attempts);
+            guard.budget().deposit();
+            long wait = guard.breaker().tryAcquire(System.nanoTime());
+            if (wait > 0) {
+                return Mono.error(ApiTestService.circuitOpen(target, wait));
+            }
+            return attempt(1);
+        }
+
+        private Mono<Exchange> attempt(int attempt) {
+            AttemptTiming timing = new AttemptTiming();
+            timing.setAttempt(attempt);
+            attempts.add(timing);
+            result.setAttempts(attempt);
+
+            long startTime = System.nanoTime();
+            Mono<Exchange> exchange = check.auth() ? withToken(check, context, path) : send(check, target, path, null);
+            return exchange
+                    .map(response -> new Outcome(response, null))
+                    .onErrorResume(e -> Mono.just(new Outcome(null, unwrap(e))))
+                    .flatMap(outcome -> {
+                        timing.setDurationNanos(System.nanoTime() - startTime);
+                        Throwable error = outcome.error();
+                        if (error != null) {
+                            timing.setError(error.getClass().getSimpleName() + ": " + error.getMessage());
+                        } else {
+                            timing.setStatusCode(outcome.exchange().statusCode());
+                        }
+
+                        if (error != null || outcome.exchange().statusCode() >= 500) {
+                            guard.breaker().onFailure(System.nanoTime());
+                        } else {
+                            guard.breaker().onSuccess();
+                        }
+                        boolean retryable = error != null
+                                ? repeatable || neverSent(error)
+                                : repeatable && ApiTestService.retryableStatus(outcome.exchange().statusCode());
+                        // A circuit that opened meanwhile ends the retries with this attempt's outcome
+                        if (!retryable || attempt >= maxAttempts || !guard.budget().tryWithdraw()
+                                || guard.breaker().tryAcquire(System.nanoTime()) > 0) {
+                            return error != null ? Mono.error(error) : Mono.just(outcome.exchange());
+                        }
+                        long backoff = testService.backoff(attempt);
+                        timing.setBackoffNanos(backoff);
+                        return Mono.delay(Duration.ofNanos(backoff)).then(Mono.defer(() -> attempt(attempt + 1)));
+                    });
+        }
+    }
+
+    /**
+     * A target's connection pool on the shared event loops, and a WebClient
+     * over it per connect timeout in use (the default plus one per check
+     * policy that sets its own).
+     */
+    private final class Clients {
+        private final String baseUrl;
+        private final ConnectionProvider provider;
+        private final HttpClient http;
+        private final Map<Duration, WebClient> byConnectTimeout = new ConcurrentHashMap<>();
+
+        Clients(BookerTarget target) {
+            this.baseUrl = target.getBaseUrl();
+            this.provider = ConnectionProvider.builder("checks-" + target.getName())
+                    .maxConnections(maxConnections)
+                    .pendingAcquireMaxCount(maxPending)
+                    .maxIdleTime(idleTimeout)
+                    .build();
+            this.http = HttpClient.create(provider).runOn(loops).responseTimeout(readTimeout);
+        }
+
+        WebClient forConnectTimeout(Duration timeout) {
+            return byConnectTimeout.computeIfAbsent(timeout != null ? timeout : connectTimeout, key ->
+                    WebClient.builder()
+                            .baseUrl(baseUrl)
+                            .clientConnector(new ReactorClientHttpConnector(
+                                    http.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) key.toMillis())))
+                            .exchangeStrategies(strategies)
+                            .build());
+        }
+    }
+
+    private record Exchange(int statusCode, byte[] body) implements ApiTestService.ResponseBody {
+        @Override
+        public byte[] bytes() {
+            return body;
+        }
+
+        @Override
+        public InputStream stream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+
+    private record Outcome(Exchange exchange, Throwable error) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.restfulbooker.service;
+
+/**
+ * Limits retries to a fraction of the checks sent to a target. Every first
+ * attempt deposits {@code ratio} of a retry and every retry spends a whole one,
+ * so a failing target sees at most {@code ratio} extra traffic from retries
+ * rather than every check multiplying its load. The budget starts full and
+ * holds at most {@code burst} retries.
+ */
+class RetryBudget {
+
+    private final double ratio;
+    private final double capacity;
+    private double balance;
+
+    RetryBudget(double ratio, int burst) {
+        this.ratio = ratio;
+        this.capacity = Math.max(0, burst);
+        this.balance = capacity;
+    }
+
+    synchronized void deposit() {
+        balance = Math.min(capacity, balance + ratio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    synchronized double available() {
+        return balance;
+    }
+}
@@ -0,0 +1,233 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CheckDefinition;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.ProbeStatus;
+import com.restfulbooker.model.TestResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs every check in the catalog continuously as synthetic probes when
+ * {@code monitor.enabled} is set. Each (target, check) pair has its own jittered schedule; a tick is
+ * skipped while the previous run is still waiting or going, and waits for its
+ * turn when the shared token bucket is empty. A probe that runs for more than half its interval, or
+ * finds the check executor queueing, doubles its interval up to
+ * {@code monitor.max-backoff} and halves it again once runs are quick.
+ * Results go through {@link CheckExecutor} like any other check.
+ */
+@Service
+public class SyntheticMonitor {
+
+    @Autowired
+    private ApiTestService testService;
+
+    @Autowired
+    private CheckExecutor checkExecutor;
+
+    @Autowired
+    private TargetRegistry targets;
+
+    @Autowired
+    private CheckCatalog catalog;
+
+    private final MonitorProperties properties;
+    private final TokenBucket bucket;
+    private final List<Probe> probes = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "synthetic-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyntheticMonitor(MonitorProperties properties) {
+        this.properties = properties;
+        this.bucket = new TokenBucket(properties.getRate(), properties.getBurst(), System.nanoTime());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<BookerTarget> monitored = properties.getTargets().isEmpty()
+                ? List.of(targets.getDefault())
+                : properties.getTargets().stream().map(targets::get).toList();
+        CompiledCheck cleanup = cleanupCheck(catalog);
+        for (BookerTarget target : monitored) {
+            for (CheckDefinition definition : catalog.getDefinitions()) {
+                CompiledCheck check = catalog.get(definition.getId());
+                Duration interval = properties.getIntervals().getOrDefault(check.id(), properties.getInterval());
+                if (interval.isZero() || interval.isNegative()) {
+                    continue;
+                }
+                Probe probe = new Probe(target, check, cleanup, requests(catalog, check, cleanup), interval.toNanos());
+                probes.add(probe);
+                // Spread the first runs over one interval so probes never start in lockstep
+                schedule(probe, (long) (ThreadLocalRandom.current().nextDouble() * probe.intervalNanos));
+            }
+        }
+        System.err.println("Synthetic monitor started with " + probes.size() + " probes");
+    }
+
+    public List<ProbeStatus> status() {
+        List<ProbeStatus> statuses = new ArrayList<>();
+        for (Probe probe : probes) {
+            ProbeStatus status = new ProbeStatus();
+            status.setTarget(probe.target.getName());
+            status.setCheck(probe.check.id());
+            status.setIntervalMillis(TimeUnit.NANOSECONDS.toMillis(probe.intervalNanos));
+            status.setBackoff(probe.backoff);
+            status.setRunning(probe.running.get());
+            status.setRuns(probe.runs.get());
+            status.setSkipped(probe.skipped.get());
+            status.setThrottled(probe.throttled.get());
+            status.setLastStatus(probe.lastStatus);
+            status.setLastDuration(probe.lastDuration);
+            status.setNextRunAt(probe.nextRunAt);
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    private void tick(Probe probe) {
+        if (!probe.running.compareAndSet(false, true)) {
+            probe.skipped.incrementAndGet();
+            scheduleNext(probe);
+            return;
+        }
+        long wait = bucket.reserve(probe.requests, System.nanoTime());
+        if (wait > 0) {
+            probe.throttled.incrementAndGet();
+            scheduler.schedule(() -> run(probe), wait, TimeUnit.NANOSECONDS);
+        } else {
+            run(probe);
+        }
+        scheduleNext(probe);
+    }
+
+    private void run(Probe probe) {
+        long startTime = System.nanoTime();
+        probe.runs.incrementAndGet();
+        checkExecutor.submit(probe.target.getName(), probe.check.name(), () -> runProbe(probe))
+                .whenComplete((result, e) -> {
+                    long elapsed = System.nanoTime() - startTime;
+                    boolean slow = elapsed > probe.intervalNanos / 2 || checkExecutor.getQueued() > 0;
+                    probe.backoff = slow
+                            ? Math.min(probe.backoff * 2, Math.max(1, properties.getMaxBackoff()))
+                            : Math.max(1, probe.backoff / 2);
+                    probe.lastStatus = result != null ? result.status() : CheckStatus.ERROR;
+                    probe.lastDuration = TimeUnit.NANOSECONDS.toMillis(elapsed);
+                    probe.running.set(false);
+                });
+    }
+
+    // Booking checks get a booking of their own and clean it up, so probes never depend on each other.
+    // Requests go out once each, so the probe sends exactly what it reserved from the bucket.
+    private TestResult runProbe(Probe probe) {
+        TestRunContext context = new TestRunContext(probe.target);
+        context.setSingleAttempt(true);
+        // The service runs whatever the check requires first, in the same context
+        TestResult result = testService.run(probe.check, context);
+        if (probe.cleanup != null && context.getBookingId() != null) {
+            testService.run(probe.cleanup, context);
+        }
+        return result;
+    }
+
+    // The first check that clears the booking it works on, used to delete what a probe leaves behind
+    static CompiledCheck cleanupCheck(CheckCatalog catalog) {
+        for (CheckDefinition definition : catalog.getDefinitions()) {
+            CompiledCheck check = catalog.get(definition.getId());
+            if (check.clearsBooking()) {
+                return check;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Requests a probe sends: the check, the checks it requires in turn, and
+     * the cleanup when that chain leaves a booking behind.
+     */
+    static int requests(CheckCatalog catalog, CompiledCheck check, CompiledCheck cleanup) {
+        int requests = 0;
+        boolean holdsBooking = false;
+        List<CompiledCheck> chain = new ArrayList<>();
+        // The catalog rejects requires cycles, so every chain ends
+        for (CompiledCheck step = check; step != null;
+             step = step.requires() != null ? catalog.get(step.requires()) : null) {
+            chain.add(0, step);
+        }
+        for (CompiledCheck step : chain) {
+            requests++;
+            if (step.captureBookingId() != null) {
+                holdsBooking = true;
+            }
+            if (step.clearsBooking()) {
+                holdsBooking = false;
+            }
+        }
+        if (holdsBooking && cleanup != null) {
+            requests++;
+        }
+        return requests;
+    }
+
+    private void scheduleNext(Probe probe) {
+        double jitter = properties.getJitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        schedule(probe, (long) (probe.intervalNanos * probe.backoff * (1 + jitter)));
+    }
+
+    private void schedule(Probe probe, long delayNanos) {
+        probe.nextRunAt = System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(delayNanos);
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(() -> tick(probe), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static class Probe {
+        private final BookerTarget target;
+        private final CompiledCheck check;
+        private final CompiledCheck cleanup;
+        private final int requests;
+        private final long intervalNanos;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+        private volatile int backoff = 1;
+        private volatile CheckStatus lastStatus;
+        private volatile long lastDuration;
+        private volatile long nextRunAt;
+
+        Probe(BookerTarget target, CompiledCheck check, CompiledCheck cleanup, int requests, long intervalNanos) {
+            this.target = target;
+            this.check = check;
+            this.cleanup = cleanup;
+            this.requests = requests;
+            this.intervalNanos = intervalNanos;
+        }
+    }
+}
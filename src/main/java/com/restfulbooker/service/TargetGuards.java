@@ -0,0 +1,51 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.CircuitStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The circuit breaker and retry budget of each target, shared by every check,
+ * suite, load run and probe against it.
+ */
+@Service
+public class TargetGuards {
+
+    @Autowired
+    private TargetRegistry targets;
+
+    private final PolicyProperties properties;
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public TargetGuards(PolicyProperties properties) {
+        this.properties = properties;
+    }
+
+    Guard of(BookerTarget target) {
+        return guards.computeIfAbsent(target.getName(), name -> new Guard(
+                new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration().toNanos()),
+                new RetryBudget(properties.getRetryBudgetRatio(), properties.getRetryBudgetBurst())));
+    }
+
+    public List<CircuitStatus> status() {
+        List<CircuitStatus> statuses = new ArrayList<>();
+        for (BookerTarget target : targets.getAll()) {
+            Guard guard = of(target);
+            CircuitStatus status = new CircuitStatus();
+            status.setTarget(target.getName());
+            status.setState(guard.breaker().getState().name());
+            status.setConsecutiveFailures(guard.breaker().getConsecutiveFailures());
+            status.setRejected(guard.breaker().getRejected());
+            status.setRetryBudget(guard.budget().available());
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    record Guard(CircuitBreaker breaker, RetryBudget budget) {}
+}
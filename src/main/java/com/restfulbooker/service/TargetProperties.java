@@ -0,0 +1,59 @@
+package com.restfulbooker.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named booker targets from {@code booker.targets.<name>.*}. The top-level
+ * {@code booker.base-url}, {@code booker.username} and {@code booker.password}
+ * define the {@code default} target and fill in whatever a named target leaves out.
+ */
+@Component
+@ConfigurationProperties(prefix = "booker")
+public class TargetProperties {
+
+    private String baseUrl = "https://restful-booker.herokuapp.com";
+    private String username = "admin";
+    private String password = "password123";
+    private Map<String, Target> targets = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+
+    public Map<String, Target> getTargets() { return targets; }
+    public void setTargets(Map<String, Target> targets) { this.targets = targets; }
+
+    public static class Target {
+        private String baseUrl;
+        private String username;
+        private String password;
+        private Integer maxTotal;
+        private Integer maxPerRoute;
+
+        // Getters and Setters
+        public String getBaseUrl() { return baseUrl; }
+        public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public Integer getMaxTotal() { return maxTotal; }
+        public void setMaxTotal(Integer maxTotal) { this.maxTotal = maxTotal; }
+
+        public Integer getMaxPerRoute() { return maxPerRoute; }
+        public void setMaxPerRoute(Integer maxPerRoute) { this.maxPerRoute = maxPerRoute; }
+    }
+}
@@ -0,0 +1,89 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.http.HttpClientPool;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link BookerTarget} for every configured environment. Pool sizes
+ * default to {@code http.pool.*} and token timing to {@code auth.*}; each
+ * target gets its own pool and token either way.
+ */
+@Service
+public class TargetRegistry {
+
+    public static final String DEFAULT_TARGET = "default";
+
+    private final Map<String, BookerTarget> targets = new LinkedHashMap<>();
+
+    public TargetRegistry(TargetProperties properties,
+                          @Value("${http.pool.max-total:200}") int maxTotal,
+                          @Value("${http.pool.max-per-route:50}") int maxPerRoute,
+                          @Value("${http.pool.keep-alive:30s}") Duration keepAlive,
+                          @Value("${http.pool.idle-timeout:60s}") Duration idleTimeout,
+                          @Value("${http.timeout.connect:5s}") Duration connectTimeout,
+                          @Value("${http.timeout.read:30s}") Duration readTimeout,
+                          @Value("${auth.token-ttl:10m}") Duration tokenTtl,
+                          @Value("${auth.refresh-ahead:1m}") Duration refreshAhead) {
+        Map<String, TargetProperties.Target> configured = new LinkedHashMap<>();
+        configured.put(DEFAULT_TARGET, new TargetProperties.Target());
+        configured.putAll(properties.getTargets());
+
+        configured.forEach((name, target) -> {
+            String baseUrl = target.getBaseUrl() != null ? target.getBaseUrl() : properties.getBaseUrl();
+            String username = target.getUsername() != null ? target.getUsername() : properties.getUsername();
+            String password = target.getPassword() != null ? target.getPassword() : properties.getPassword();
+            HttpClientPool pool = new HttpClientPool(name,
+                    target.getMaxTotal() != null ? target.getMaxTotal() : maxTotal,
+                    target.getMaxPerRoute() != null ? target.getMaxPerRoute() : maxPerRoute,
+                    keepAlive, idleTimeout, connectTimeout, readTimeout);
+            targets.put(name, new BookerTarget(name, baseUrl, pool, username, password, tokenTtl, refreshAhead));
+        });
+    }
+
+    // Logs in once the application is up, without blocking startup or the first check
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        targets.values().forEach(target -> target.getTokenProvider().start());
+    }
+
+    /**
+     * Returns the named target, or the default one when {@code name} is empty.
+     *
+     * @throws ResponseStatusException with 404 if no such target is configured
+     */
+    public BookerTarget get(String name) {
+        if (name == null || name.isBlank()) {
+            return getDefault();
+        }
+        BookerTarget target = targets.get(name);
+        if (target == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown target: " + name);
+        }
+        return target;
+    }
+
+    public BookerTarget getDefault() {
+        return targets.get(DEFAULT_TARGET);
+    }
+
+    public List<BookerTarget> getAll() {
+        return new ArrayList<>(targets.values());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        targets.values().forEach(BookerTarget::shutdown);
+    }
+}
@@ -0,0 +1,12 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.TestResult;
+
+/**
+ * Receives every finished check result. Called on the thread that ran the
+ * check, so implementations must be thread-safe and must not block.
+ */
+public interface TestResultListener {
+
+    void onResult(TestResult result);
+}
@@ -0,0 +1,24 @@
+package com.restfulbooker.service;
+
+/**
+ * Target and booking state for a single run of the CRUD checks, so that
+ * concurrent runs never overwrite each other's booking.
+ */
+public class TestRunContext {
+    private final BookerTarget target;
+    private volatile Integer bookingId;
+    private volatile boolean singleAttempt;
+
+    public TestRunContext(BookerTarget target) {
+        this.target = target;
+    }
+
+    public BookerTarget getTarget() { return target; }
+
+    public Integer getBookingId() { return bookingId; }
+    public void setBookingId(Integer bookingId) { this.bookingId = bookingId; }
+
+    // Sends every request once: no retries, and no second try after a 403
+    public boolean isSingleAttempt() { return singleAttempt; }
+    public void setSingleAttempt(boolean singleAttempt) { this.singleAttempt = singleAttempt; }
+}
@@ -0,0 +1,99 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.SuiteResult;
+import com.restfulbooker.model.TestResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+import static com.restfulbooker.service.ApiCheck.*;
+
+/**
+ * Runs the whole suite as a dependency graph: the independent checks run
+ * concurrently while the CRUD chain (create, get, put, patch, delete) runs in
+ * order, so a run takes roughly as long as its longest chain.
+ */
+@Service
+public class TestSuiteRunner {
+
+    private static final List<ApiCheck> INDEPENDENT_CHECKS =
+            List.of(HEALTH, GET_ALL_BOOKINGS, GET_BOOKINGS_BY_NAME, INVALID_DATA, NON_EXISTENT);
+
+    @Autowired
+    private ApiTestService testService;
+
+    @Autowired
+    private CheckExecutor checkExecutor;
+
+    public CompletableFuture<SuiteResult> runAll(BookerTarget target) {
+        return runAll(target, (check, result) -> { });
+    }
+
+    /**
+     * Runs the suite against every given target at once; each suite result is
+     * tagged with its target, in the order the targets were given.
+     */
+    public CompletableFuture<List<SuiteResult>> runAll(List<BookerTarget> targets) {
+        List<CompletableFuture<SuiteResult>> runs = targets.stream().map(this::runAll).toList();
+        return CompletableFuture.allOf(runs.toArray(new CompletableFuture[0]))
+                .thenApply(v -> runs.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Runs the suite, handing each result to {@code onResult} as soon as its check completes.
+     */
+    public CompletableFuture<SuiteResult> runAll(BookerTarget target, BiConsumer<ApiCheck, TestResult> onResult) {
+        TestRunContext context = new TestRunContext(target);
+        long startTime = System.currentTimeMillis();
+
+        Map<ApiCheck, CompletableFuture<TestResult>> futures = new EnumMap<>(ApiCheck.class);
+        for (ApiCheck check : INDEPENDENT_CHECKS) {
+            futures.put(check, run(check, context, onResult));
+        }
+
+        CompletableFuture<TestResult> create = run(CREATE_BOOKING, context, onResult);
+        CompletableFuture<TestResult> get = create.thenCompose(r -> run(GET_BOOKING, context, onResult));
+        CompletableFuture<TestResult> put = get.thenCompose(r -> run(UPDATE_BOOKING, context, onResult));
+        CompletableFuture<TestResult> patch = put.thenCompose(r -> run(PARTIAL_UPDATE, context, onResult));
+        CompletableFuture<TestResult> delete = patch.thenCompose(r -> run(DELETE_BOOKING, context, onResult));
+        futures.put(CREATE_BOOKING, create);
+        futures.put(GET_BOOKING, get);
+        futures.put(UPDATE_BOOKING, put);
+        futures.put(PARTIAL_UPDATE, patch);
+        futures.put(DELETE_BOOKING, delete);
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .thenApply(v -> collect(target, futures, startTime));
+    }
+
+    private SuiteResult collect(BookerTarget target, Map<ApiCheck, CompletableFuture<TestResult>> futures,
+                                long startTime) {
+        SuiteResult suite = new SuiteResult();
+        suite.setTarget(target.getName());
+        for (ApiCheck check : ApiCheck.values()) {
+            TestResult result = futures.get(check).join();
+            suite.getResults().put(check.getId(), result);
+            if (result.passed()) {
+                suite.setPassed(suite.getPassed() + 1);
+            } else {
+                suite.setFailed(suite.getFailed() + 1);
+            }
+        }
+        suite.setTotal(suite.getResults().size());
+        suite.setDuration(System.currentTimeMillis() - startTime);
+        return suite;
+    }
+
+    private CompletableFuture<TestResult> run(ApiCheck check, TestRunContext context,
+                                              BiConsumer<ApiCheck, TestResult> onResult) {
+        return checkExecutor.submit(check, context).thenApply(result -> {
+            onResult.accept(check, result);
+            return result;
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.restfulbooker.service;
+
+/**
+ * Token bucket holding up to {@code burst} tokens and refilled at
+ * {@code ratePerSecond}. {@link #reserve} always takes the tokens, running the
+ * bucket into debt if needed, and tells the caller how long to wait before
+ * using them. Reservations are served in the order they were made, so a probe
+ * that needs several tokens is not starved by a stream of single-token ones.
+ */
+class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefill = nowNanos;
+    }
+
+    /**
+     * Takes {@code permits} tokens and returns the nanos until they are
+     * actually available, 0 meaning right away.
+     */
+    synchronized long reserve(int permits, long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefill) * tokensPerNano);
+        lastRefill = nowNanos;
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
@@ -0,0 +1,109 @@
+package com.restfulbooker.capture;
+
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BodyCaptureTest {
+
+    private static BodyCapture capture(CaptureProperties.Policy policy) {
+        CaptureProperties properties = new CaptureProperties();
+        properties.setPolicy(policy);
+        properties.setMaxBodyBytes(8);
+        properties.setMaxStoredBytes(32);
+        properties.setSampleRate(3);
+        properties.setBufferSize(DataSize.ofKilobytes(1));
+        return new BodyCapture(properties);
+    }
+
+    private static TestResult.Builder result(long runId, CheckStatus status) {
+        return new TestResult.Builder().setRunId(runId).setStatus(status);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Keeps the head of every body and previews it on the result")
+    public void testHeadPolicy() {
+        BodyCapture capture = capture(CaptureProperties.Policy.HEAD);
+        TestResult.Builder builder = result(1, CheckStatus.PASSED);
+
+        capture.capture(builder, bytes("{\"bookingid\":42}"), 16, 16);
+
+        TestResult result = builder.build();
+        assertTrue(result.bodyCaptured());
+        assertEquals("{\"bookin... (16 bytes total)", result.responseBody());
+        assertEquals("{\"bookin", capture.get(1));
+    }
+
+    @Test
+    @DisplayName("Never cuts a multi-byte character in half in the preview")
+    public void testPreviewCharacterBoundary() {
+        BodyCapture capture = capture(CaptureProperties.Policy.HEAD);
+        TestResult.Builder builder = result(1, CheckStatus.PASSED);
+
+        // "é" takes bytes 7 and 8, so the 8-byte preview stops before it
+        capture.capture(builder, bytes("abcdefgé"), 9, 9);
+
+        assertEquals("abcdefg... (9 bytes total)", builder.build().responseBody());
+    }
+
+    @Test
+    @DisplayName("Stores nothing and answers 404 when the policy is NONE")
+    public void testNonePolicy() {
+        BodyCapture capture = capture(CaptureProperties.Policy.NONE);
+        TestResult.Builder builder = result(1, CheckStatus.FAILED);
+
+        capture.capture(builder, bytes("Internal Server Error"), 21, 21);
+
+        assertFalse(builder.build().bodyCaptured());
+        assertThrows(ResponseStatusException.class, () -> capture.get(1));
+    }
+
+    @Test
+    @DisplayName("Keeps whole bodies of failures only, or of one result in sample-rate")
+    public void testFailuresAndSampledPolicies() {
+        BodyCapture failures = capture(CaptureProperties.Policy.FAILURES);
+        TestResult.Builder passed = result(1, CheckStatus.PASSED);
+        failures.capture(passed, bytes("fine"), 4, 4);
+        failures.capture(result(2, CheckStatus.FAILED), bytes("Internal Server Error"), 21, 21);
+
+        assertNull(passed.build().responseBody());
+        assertThrows(ResponseStatusException.class, () -> failures.get(1));
+        assertEquals("Internal Server Error", failures.get(2));
+
+        BodyCapture sampled = capture(CaptureProperties.Policy.SAMPLED);
+        for (long runId = 1; runId <= 7; runId++) {
+            sampled.capture(result(runId, CheckStatus.PASSED), bytes("body " + runId), 6, 6);
+        }
+        assertEquals("body 1", sampled.get(1));
+        assertEquals("body 4", sampled.get(4));
+        assertEquals("body 7", sampled.get(7));
+        assertThrows(ResponseStatusException.class, () -> sampled.get(2));
+    }
+
+    @Test
+    @DisplayName("Overwrites the oldest bodies once the ring has gone a full lap")
+    public void testRingEviction() {
+        BodyRing ring = new BodyRing(100, 16);
+        for (long id = 1; id <= 5; id++) {
+            ring.put(id, bytes("0123456789abcdefgh" + id), 19);
+        }
+
+        // Three 31-byte records fit; the fourth and fifth start over at the front and overwrite the first two
+        assertNull(ring.get(1));
+        assertNull(ring.get(2));
+        assertArrayEquals(bytes("0123456789abcdefgh3"), ring.get(3));
+        assertArrayEquals(bytes("0123456789abcdefgh5"), ring.get(5));
+        assertNull(ring.get(6));
+    }
+}
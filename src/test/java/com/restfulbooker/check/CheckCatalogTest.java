@@ -0,0 +1,127 @@
+package com.restfulbooker.check;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restfulbooker.service.ApiCheck;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckCatalogTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static Resource yaml(String text) {
+        return new ByteArrayResource(text.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "extra.yaml";
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Compiles the shipped definitions with a pre-serialized body for every built-in check")
+    public void testShippedDefinitions() throws IOException {
+        CheckCatalog catalog = new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml")});
+
+        for (ApiCheck check : ApiCheck.values()) {
+            assertEquals(check.getDisplayName(), catalog.get(check.getId()).name());
+        }
+        CompiledCheck create = catalog.get("create-booking");
+        JsonNode body = mapper.readTree(create.body());
+        assertEquals("John", body.get("firstname").asText());
+        assertEquals("2024-12-01", body.at("/bookingdates/checkin").asText());
+        assertEquals("/booking/42", catalog.get("get-booking").path().render(name -> 42));
+    }
+
+    @Test
+    @DisplayName("Later files add checks and override earlier ones by id")
+    public void testOverrideById() throws IOException {
+        CheckCatalog catalog = new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml"), yaml("""
+                checks:
+                  - id: health
+                    name: Health Check
+                    path: /ping
+                    expect: {status: 200}
+                  - id: ping-twice
+                    name: Ping Twice
+                    path: /ping
+                """)});
+
+        assertEquals(200, catalog.get("health").expectedStatus());
+        assertEquals("GET /ping", catalog.get("ping-twice").endpoint());
+    }
+
+    @Test
+    @DisplayName("JSONPath assertions report what was expected and what came back")
+    public void testJsonAssertions() throws IOException {
+        JsonNode response = mapper.readTree("{\"bookingid\":7,\"booking\":{\"firstname\":\"Jim\"},\"ids\":[3,4]}");
+
+        assertNull(JsonAssertion.compile("$.bookingid", null, null, "number").check(response));
+        assertNull(JsonAssertion.compile("$.ids[1]", null, mapper.valueToTree(4), null).check(response));
+        assertEquals("Expected $.booking.firstname to be \"John\" but was \"Jim\"",
+                JsonAssertion.compile("$.booking.firstname", null, mapper.valueToTree("John"), null).check(response));
+        assertEquals("Expected $.missing to be present",
+                JsonAssertion.compile("$.missing", true, null, null).check(response));
+    }
+
+    @Test
+    @DisplayName("Rejects unsupported JSONPath and unknown placeholders at startup")
+    public void testInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class, () -> JsonAssertion.toPointer("$..firstname"));
+        assertThrows(IllegalArgumentException.class, () -> JsonAssertion.toPointer("$.bookings[*]"));
+
+        CheckDefinition definition = new CheckDefinition();
+        definition.setId("bad");
+        definition.setName("Bad");
+        definition.setPath("/booking/{id}");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> CheckCatalog.compile(definition));
+        assertTrue(e.getMessage().contains("{id}"));
+    }
+
+    @Test
+    @DisplayName("Rejects checks whose requires chain loops back on itself")
+    public void testRequiresCycle() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new CheckCatalog(new Resource[]{
+                new ClassPathResource("checks.yaml"), yaml("""
+                checks:
+                  - id: a
+                    name: A
+                    path: /ping
+                    requires: b
+                  - id: b
+                    name: B
+                    path: /ping
+                    requires: a
+                """)}));
+        assertEquals("Check a has a requires cycle: a -> b -> a", e.getMessage());
+
+        e = assertThrows(IllegalStateException.class, () -> new CheckCatalog(new Resource[]{
+                new ClassPathResource("checks.yaml"), yaml("""
+                checks:
+                  - id: self
+                    name: Self
+                    path: /ping
+                    requires: self
+                """)}));
+        assertEquals("Check self has a requires cycle: self -> self", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Templates render placeholders and format id arrays")
+    public void testTemplate() {
+        Template template = Template.compile("Retrieved {count} bookings (sample IDs: {sampleIds})");
+
+        assertEquals("Retrieved 2 bookings (sample IDs: [5, 9])",
+                template.render(name -> Map.of("count", 2, "sampleIds", new int[]{5, 9}).get(name)));
+    }
+}
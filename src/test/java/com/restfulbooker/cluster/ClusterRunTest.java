@@ -0,0 +1,151 @@
+package com.restfulbooker.cluster;
+
+import com.restfulbooker.Application;
+import com.restfulbooker.emulator.BookerEmulator;
+import com.restfulbooker.model.ClusterLoadProfile;
+import com.restfulbooker.model.ClusterRunStatus;
+import com.restfulbooker.model.LatencyStats;
+import com.restfulbooker.model.LoadProfile;
+import com.restfulbooker.model.WorkerInfo;
+import com.restfulbooker.model.WorkerRunStatus;
+import com.restfulbooker.service.LoadDelta;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClusterRunTest {
+
+    private static WorkerInfo worker(String id) {
+        WorkerInfo worker = new WorkerInfo();
+        worker.setId(id);
+        worker.setUrl("http://" + id);
+        return worker;
+    }
+
+    private static Histogram histogram(long... values) {
+        Histogram histogram = new Histogram(3);
+        for (long value : values) {
+            histogram.recordValue(value);
+        }
+        return histogram;
+    }
+
+    // A full node on a free port, configured by arguments since default properties would lose to application.properties
+    private static ConfigurableApplicationContext node(String baseUrl, String... args) {
+        List<String> all = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN", "--history.enabled=false", "--booker.base-url=" + baseUrl,
+                "--cluster.report-interval=500ms"));
+        all.addAll(List.of(args));
+        return new SpringApplicationBuilder(Application.class).run(all.toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("Deals targets out round-robin and shares each target's rate and users among its workers")
+    public void testSplit() {
+        ClusterLoadProfile profile = new ClusterLoadProfile();
+        profile.setTargetRps(90);
+        profile.setMaxVirtualUsers(10);
+        profile.setSteadySeconds(30);
+
+        List<ClusterCoordinator.Share> shares = ClusterCoordinator.split(profile, List.of("a", "b"),
+                List.of(worker("w1"), worker("w2"), worker("w3")));
+
+        assertEquals(3, shares.size());
+        assertEquals(List.of("w1", "w3", "w2"), shares.stream().map(s -> s.worker().getId()).toList());
+        LoadProfile first = shares.get(0).profile();
+        assertEquals("a", first.getTarget());
+        assertEquals(45, first.getTargetRps(), 1e-9);
+        assertEquals(5, first.getMaxVirtualUsers());
+        assertEquals(30, first.getSteadySeconds());
+        assertEquals("b", shares.get(2).profile().getTarget());
+        assertEquals(90, shares.get(2).profile().getTargetRps(), 1e-9);
+        assertEquals(10, shares.get(2).profile().getMaxVirtualUsers());
+
+        profile.setMaxVirtualUsers(10);
+        List<ClusterCoordinator.Share> three = ClusterCoordinator.split(profile, List.of("a"),
+                List.of(worker("w1"), worker("w2"), worker("w3")));
+        assertEquals(List.of(4, 3, 3), three.stream().map(s -> s.profile().getMaxVirtualUsers()).toList());
+        assertEquals(90, three.stream().mapToDouble(s -> s.profile().getTargetRps()).sum(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Encodes histograms compactly and merges undelivered deltas without losing a value")
+    public void testHistogramDeltas() {
+        Histogram latency = histogram(1_000_000, 2_000_000, 50_000_000);
+        Histogram decoded = HistogramCodec.decode(HistogramCodec.encode(latency));
+        assertEquals(latency, decoded);
+        assertTrue(HistogramCodec.encode(latency).length() < 200);
+
+        LoadDelta older = new LoadDelta("default", true, 3, 10, 7, 1, 0, histogram(1_000_000),
+                Map.of("Create Booking", histogram(500_000)));
+        LoadDelta newer = new LoadDelta("default", false, 0, 2, 5, 1, 1, histogram(3_000_000),
+                Map.of("Create Booking", histogram(700_000)));
+        LoadDelta merged = ClusterWorker.merge(older, newer);
+
+        assertFalse(merged.running());
+        assertEquals(0, merged.inFlight());
+        assertEquals(12, merged.started());
+        assertEquals(12, merged.completed());
+        assertEquals(2, merged.failed());
+        assertEquals(1, merged.dropped());
+        assertEquals(2, merged.latency().getTotalCount());
+        assertEquals(2, merged.checks().get("Create Booking").getTotalCount());
+        assertEquals(1, older.latency().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Runs a load across two worker nodes and merges their reports into one result")
+    public void testCoordinatorAndWorkers() throws Exception {
+        try (BookerEmulator emulator = BookerEmulator.start(0);
+             ConfigurableApplicationContext coordinatorNode = node(emulator.getBaseUrl())) {
+            int port = ((WebServerApplicationContext) coordinatorNode).getWebServer().getPort();
+            String coordinatorUrl = "--cluster.coordinator-url=http://localhost:" + port;
+            try (ConfigurableApplicationContext first = node(emulator.getBaseUrl(), coordinatorUrl);
+                 ConfigurableApplicationContext second = node(emulator.getBaseUrl(), coordinatorUrl)) {
+                ClusterCoordinator coordinator = coordinatorNode.getBean(ClusterCoordinator.class);
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (coordinator.workers().stream().filter(WorkerInfo::isLive).count() < 2) {
+                    assertTrue(System.currentTimeMillis() < deadline, "workers did not register");
+                    Thread.sleep(100);
+                }
+
+                ClusterLoadProfile profile = new ClusterLoadProfile();
+                profile.setTargetRps(20);
+                profile.setRampUpSeconds(0);
+                profile.setSteadySeconds(3);
+                profile.setRampDownSeconds(0);
+                ClusterRunStatus status = coordinator.start(profile);
+                assertTrue(status.isRunning());
+                deadline = System.currentTimeMillis() + 30_000;
+                while ((status = coordinator.status()).isRunning()) {
+                    assertTrue(System.currentTimeMillis() < deadline, "run did not finish");
+                    Thread.sleep(200);
+                }
+
+                assertEquals(2, status.getWorkers().size());
+                for (WorkerRunStatus worker : status.getWorkers()) {
+                    assertNull(worker.getError());
+                    assertEquals(10, worker.getTargetRps(), 1e-9);
+                    assertEquals(30, worker.getStarted());
+                }
+                assertEquals(60, status.getStarted());
+                assertEquals(60, status.getCompleted());
+                assertEquals(0, status.getFailed());
+                assertEquals(60, status.getLatency().getCount());
+                assertEquals(5, status.getChecks().size());
+                for (LatencyStats check : status.getChecks()) {
+                    assertEquals(60, check.getCount(), check.getTestName());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.restfulbooker.emulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingStoreTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final BookingStore store = new BookingStore(mapper);
+
+    private ObjectNode booking(String firstname, String lastname) {
+        ObjectNode booking = mapper.createObjectNode()
+                .put("firstname", firstname)
+                .put("lastname", lastname)
+                .put("totalprice", 100)
+                .put("depositpaid", true);
+        booking.putObject("bookingdates").put("checkin", "2024-12-01").put("checkout", "2024-12-10");
+        return booking;
+    }
+
+    @Test
+    @DisplayName("Finds bookings by first name, last name or both")
+    public void testFindByName() {
+        int johnDoe = store.create(booking("John", "Doe")).id();
+        int janeDoe = store.create(booking("Jane", "Doe")).id();
+        store.create(booking("John", "Smith"));
+
+        assertEquals(List.of(johnDoe), store.find("John", "Doe"));
+        assertEquals(List.of(johnDoe, janeDoe), store.find(null, "Doe").stream().sorted().toList());
+        assertEquals(3, store.find(null, null).size());
+        assertTrue(store.find("Nobody", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Keeps the name index in step with updates and deletes")
+    public void testIndexFollowsUpdates() {
+        int id = store.create(booking("John", "Doe")).id();
+
+        store.update(id, booking("Jane", "Smith"), false);
+        assertTrue(store.find("John", "Doe").isEmpty());
+        assertEquals(List.of(id), store.find("Jane", "Smith"));
+
+        store.update(id, mapper.createObjectNode().put("lastname", "Brown"), true);
+        assertEquals(List.of(id), store.find("Jane", "Brown"));
+        assertEquals("Jane", store.get(id).firstname());
+
+        assertTrue(store.delete(id));
+        assertTrue(store.find("Jane", null).isEmpty());
+        assertFalse(store.delete(id));
+        assertNull(store.update(id, booking("X", "Y"), false));
+    }
+
+    @Test
+    @DisplayName("Partial updates merge nested booking dates")
+    public void testPartialMergeNested() throws Exception {
+        int id = store.create(booking("John", "Doe")).id();
+        ObjectNode change = mapper.createObjectNode();
+        change.putObject("bookingdates").put("checkout", "2024-12-20");
+
+        store.update(id, change, true);
+
+        String json = new String(store.get(id).json());
+        assertTrue(json.contains("\"checkin\":\"2024-12-01\""));
+        assertTrue(json.contains("\"checkout\":\"2024-12-20\""));
+    }
+}
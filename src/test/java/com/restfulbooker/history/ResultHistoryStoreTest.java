@@ -0,0 +1,133 @@
+package com.restfulbooker.history;
+
+import com.restfulbooker.model.HistoryPoint;
+import com.restfulbooker.model.HistorySeries;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultHistoryStoreTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private ResultHistoryStore store(int segmentRecords) throws IOException {
+        return new ResultHistoryStore(true, dir, Duration.ofHours(1), segmentRecords, Duration.ofDays(1), 1000, 1024);
+    }
+
+    private static TestResult result(String target, String testName, CheckStatus status, long millis) {
+        return new TestResult.Builder()
+                .setTarget(target)
+                .setTestName(testName)
+                .setStatus(status)
+                .setStatusCode(200)
+                .setDurationNanos(millis * 1_000_000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Downsamples each target and test into its own series")
+    public void testDownsampledSeries() throws IOException {
+        ResultHistoryStore store = store(1024);
+        for (int i = 0; i < 60; i++) {
+            CheckStatus status = i % 5 == 0 ? CheckStatus.FAILED : CheckStatus.PASSED;
+            store.append(result("default", "Health Check", status, 10), T0 + i * 1000);
+            store.append(result("staging", "Health Check", CheckStatus.PASSED, 100), T0 + i * 1000);
+        }
+        store.append(result("default", "Create Booking", CheckStatus.ERROR, 0), T0 + 5000);
+
+        List<HistorySeries> series = store.query(null, "Health Check", T0, T0 + 60_000, Duration.ofSeconds(30));
+
+        assertEquals(2, series.size());
+        assertEquals("default", series.get(0).getTarget());
+        List<HistoryPoint> points = series.get(0).getPoints();
+        assertEquals(2, points.size());
+        assertEquals(T0 + 30_000, points.get(1).getTimestamp());
+        assertEquals(30, points.get(0).getCount());
+        assertEquals(0.8, points.get(0).getPassRate(), 0.001);
+        assertEquals(10.0, points.get(0).getMean(), 0.001);
+        assertEquals(100.0, series.get(1).getPoints().get(0).getP95(), 10.0);
+
+        List<HistorySeries> staging = store.query("staging", null, T0 + 10_000, T0 + 20_000, null);
+        assertEquals(1, staging.size());
+        assertEquals(10, staging.get(0).getPoints().stream().mapToLong(HistoryPoint::getCount).sum());
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("Rolls over full and expired segments and reads across them after a restart")
+    public void testRolloverAndReopen() throws IOException {
+        ResultHistoryStore store = store(10);
+        for (int i = 0; i < 25; i++) {
+            store.append(result("default", "Health Check", CheckStatus.PASSED, 5), T0 + i);
+        }
+        store.append(result("default", "Health Check", CheckStatus.PASSED, 5), T0 + Duration.ofHours(2).toMillis());
+        assertEquals(4, store.segments().size());
+        store.shutdown();
+
+        ResultHistoryStore reopened = store(10);
+        List<HistorySeries> series = reopened.query(null, null, T0, T0 + Duration.ofHours(3).toMillis(),
+                Duration.ofHours(1));
+        assertEquals(1, series.size());
+        assertEquals(25, series.get(0).getPoints().get(0).getCount());
+        assertEquals(1, series.get(0).getPoints().get(1).getCount());
+        reopened.shutdown();
+    }
+
+    @Test
+    @DisplayName("Gives names with tabs, newlines or an empty target the same id after a restart")
+    public void testSeriesIdsSurviveRestart() throws IOException {
+        Path file = dir.resolve("series.tsv");
+        SeriesDictionary dictionary = new SeriesDictionary(file);
+        int tabbed = dictionary.idOf("default", "Get\tBooking\n");
+        int untargeted = dictionary.idOf("", "Health Check");
+        assertEquals(tabbed, dictionary.idOf("default", "Get\tBooking\n"));
+        assertEquals(untargeted, dictionary.idOf(null, "Health Check"));
+
+        SeriesDictionary reopened = new SeriesDictionary(file);
+        assertEquals(tabbed, reopened.idOf("default", "Get\tBooking\n"));
+        assertEquals(untargeted, reopened.idOf("", "Health Check"));
+        assertEquals(2, reopened.idOf("default", "Health Check"));
+    }
+
+    @Test
+    @DisplayName("Deletes segments that ended before the retention cutoff")
+    public void testRetention() throws IOException {
+        ResultHistoryStore store = store(1024);
+        store.append(result("default", "Health Check", CheckStatus.PASSED, 5), T0);
+        store.append(result("default", "Health Check", CheckStatus.PASSED, 5), T0 + Duration.ofHours(30).toMillis());
+        assertEquals(2, store.segments().size());
+
+        store.maintain(T0 + Duration.ofHours(26).toMillis());
+
+        assertEquals(1, store.segments().size());
+        assertEquals(T0 + Duration.ofHours(30).toMillis(), Segment.startOf(store.segments().get(0)));
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("Writes results from onResult on its own thread and flushes the queue at shutdown")
+    public void testQueuedWrites() throws IOException {
+        ResultHistoryStore store = store(1024);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 500; i++) {
+            store.onResult(result("default", "Health Check", CheckStatus.PASSED, 5));
+        }
+        store.shutdown();
+
+        List<HistorySeries> series = store.query(null, null, now - 60_000, now + 60_000, Duration.ofMinutes(5));
+        assertEquals(1, series.size());
+        assertEquals(500, series.get(0).getPoints().stream().mapToLong(HistoryPoint::getCount).sum());
+    }
+}
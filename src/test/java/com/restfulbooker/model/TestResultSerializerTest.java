@@ -0,0 +1,110 @@
+package com.restfulbooker.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.restfulbooker.Application;
+import com.restfulbooker.emulator.BookerEmulator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResultSerializerTest {
+
+    // The written "duration" is derived from durationNanos and has no record component to read it into
+    private static final CBORMapper CBOR = CBORMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static TestResult.Builder health() {
+        return new TestResult.Builder()
+                .setRunId(7)
+                .setTarget("default")
+                .setTestName("Health Check")
+                .setEndpoint("GET /ping")
+                .setStatus(CheckStatus.PASSED)
+                .setMessage("API is healthy and responding")
+                .setStatusCode(201)
+                .setDurationNanos(1_500_000)
+                .setAttempts(1);
+    }
+
+    @Test
+    @DisplayName("Writes the same JSON fields the dashboard reads")
+    public void testJsonShape() throws Exception {
+        AttemptTiming attempt = new AttemptTiming();
+        attempt.setAttempt(1);
+        attempt.setStatusCode(201);
+        JsonNode json = new ObjectMapper().readTree(new ObjectMapper().writeValueAsString(
+                health().setAttemptTimings(List.of(attempt)).build()));
+
+        List<String> fields = new ArrayList<>();
+        json.fieldNames().forEachRemaining(fields::add);
+        assertEquals(List.of("runId", "target", "testName", "endpoint", "status", "message", "statusCode",
+                "responseBody", "bodyCaptured", "duration", "durationNanos", "phases", "attempts", "attemptTimings"), fields);
+        assertEquals("PASSED", json.get("status").asText());
+        assertEquals(1, json.get("duration").asLong());
+        assertEquals(1_500_000, json.get("durationNanos").asLong());
+        assertTrue(json.get("responseBody").isNull());
+        assertTrue(json.get("phases").isNull());
+        assertEquals(201, json.at("/attemptTimings/0/statusCode").asInt());
+    }
+
+    @Test
+    @DisplayName("Keeps its own copy of the attempt timings")
+    public void testAttemptTimingsCopied() {
+        List<AttemptTiming> attempts = new ArrayList<>(List.of(new AttemptTiming()));
+        TestResult result = health().setAttemptTimings(attempts).build();
+        attempts.add(new AttemptTiming());
+
+        assertEquals(1, result.attemptTimings().size());
+        assertThrows(UnsupportedOperationException.class, () -> result.attemptTimings().clear());
+    }
+
+    @Test
+    @DisplayName("Reads back what it writes as CBOR")
+    public void testCborRoundTrip() throws Exception {
+        TestResult result = health().build();
+        byte[] bytes = CBOR.writeValueAsBytes(result);
+
+        assertEquals(result, CBOR.readValue(bytes, TestResult.class));
+        assertTrue(bytes.length < new ObjectMapper().writeValueAsBytes(result).length);
+    }
+
+    @Test
+    @DisplayName("Answers check endpoints in CBOR when the client accepts it")
+    public void testCborNegotiation() throws Exception {
+        try (BookerEmulator emulator = BookerEmulator.start(0);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                     .run("--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                             "--history.enabled=false", "--booker.base-url=" + emulator.getBaseUrl())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+            URI health = URI.create("http://localhost:" + port + "/api/tests/health");
+
+            HttpResponse<byte[]> cbor = client.send(HttpRequest.newBuilder(health)
+                    .header("Accept", "application/cbor").build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals("application/cbor", cbor.headers().firstValue("Content-Type").orElse(null));
+            TestResult result = CBOR.readValue(cbor.body(), TestResult.class);
+            assertEquals(CheckStatus.PASSED, result.status(), result.message());
+            assertEquals("Health Check", result.testName());
+
+            HttpResponse<String> json = client.send(HttpRequest.newBuilder(health).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(json.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+            assertTrue(json.body().contains("\"status\":\"PASSED\""));
+        }
+    }
+}
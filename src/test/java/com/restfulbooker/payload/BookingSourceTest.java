@@ -0,0 +1,119 @@
+package com.restfulbooker.payload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingSourceTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    private static RandomBookingSource random(long seed) {
+        return new RandomBookingSource(seed, 100, 200, LocalDate.of(2025, 2, 27), 10, 3);
+    }
+
+    @Test
+    @DisplayName("Random bookings stay within the configured ranges and vary")
+    public void testRandomRanges() throws IOException {
+        RandomBookingSource source = random(7);
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            JsonNode booking = mapper.readTree(source.next());
+            int price = booking.get("totalprice").asInt();
+            LocalDate checkin = LocalDate.parse(booking.at("/bookingdates/checkin").asText());
+            LocalDate checkout = LocalDate.parse(booking.at("/bookingdates/checkout").asText());
+
+            assertTrue(price >= 100 && price <= 200, "price " + price);
+            assertFalse(checkin.isBefore(LocalDate.of(2025, 2, 27)));
+            assertFalse(checkin.isAfter(LocalDate.of(2025, 3, 8)));
+            assertTrue(checkout.isAfter(checkin) && !checkout.isAfter(checkin.plusDays(3)));
+            assertTrue(booking.get("depositpaid").isBoolean());
+            names.add(booking.get("firstname").asText() + " " + booking.get("lastname").asText());
+        }
+        assertTrue(names.size() > 100, "only " + names.size() + " distinct names");
+    }
+
+    @Test
+    @DisplayName("Random deposits do not follow the length of the stay")
+    public void testRandomFieldsIndependent() throws IOException {
+        RandomBookingSource source = new RandomBookingSource(7, 100, 200, LocalDate.of(2025, 2, 27), 10, 14);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            JsonNode booking = mapper.readTree(source.next());
+            long nights = LocalDate.parse(booking.at("/bookingdates/checkin").asText())
+                    .until(LocalDate.parse(booking.at("/bookingdates/checkout").asText())).getDays();
+            seen.add(booking.get("depositpaid").asBoolean() + " " + (nights % 2));
+        }
+        assertEquals(4, seen.size(), "deposit and stay parity seen together: " + seen);
+    }
+
+    @Test
+    @DisplayName("The same seed and index always give the same booking")
+    public void testDeterministic() {
+        assertArrayEquals(random(1).generate(42), random(1).generate(42));
+        assertFalse(new String(random(1).generate(42), StandardCharsets.UTF_8)
+                .equals(new String(random(2).generate(42), StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("CSV rows become booking bodies and the file starts over at the end")
+    public void testCsvFile() throws IOException {
+        Path file = dir.resolve("bookings.csv");
+        Files.writeString(file, """
+                firstname,lastname,totalprice,depositpaid,checkin,checkout,additionalneeds
+                Ada,Lovelace,120,true,2025-05-01,2025-05-03,Breakfast
+
+                Alan,Turing,80,false,2025-06-10,2025-06-11,
+                """);
+
+        try (FileBookingSource source = new FileBookingSource(file)) {
+            JsonNode first = mapper.readTree(source.next());
+            JsonNode second = mapper.readTree(source.next());
+            JsonNode again = mapper.readTree(source.next());
+
+            assertEquals("Ada", first.get("firstname").asText());
+            assertEquals("2025-05-03", first.at("/bookingdates/checkout").asText());
+            assertEquals("Breakfast", first.get("additionalneeds").asText());
+            assertEquals(80, second.get("totalprice").asInt());
+            assertFalse(second.has("additionalneeds"));
+            assertEquals(first, again);
+        }
+    }
+
+    @Test
+    @DisplayName("JSONL lines are passed through unchanged")
+    public void testJsonlFile() throws IOException {
+        Path file = dir.resolve("bookings.jsonl");
+        Files.writeString(file, "{\"firstname\":\"Grace\"}\r\n{\"firstname\":\"Edsger\"}\n");
+
+        try (FileBookingSource source = new FileBookingSource(file)) {
+            assertEquals("{\"firstname\":\"Grace\"}", new String(source.next(), StandardCharsets.UTF_8));
+            assertEquals("{\"firstname\":\"Edsger\"}", new String(source.next(), StandardCharsets.UTF_8));
+            assertEquals("{\"firstname\":\"Grace\"}", new String(source.next(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Rejects a CSV file without the required columns")
+    public void testMissingColumn() throws IOException {
+        Path file = dir.resolve("bad.csv");
+        Files.writeString(file, "firstname,lastname\nAda,Lovelace\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new FileBookingSource(file));
+    }
+}
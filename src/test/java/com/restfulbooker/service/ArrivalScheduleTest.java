@@ -0,0 +1,72 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.LoadProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrivalScheduleTest {
+
+    private static LoadProfile profile(double rps, long rampUp, long steady, long rampDown) {
+        LoadProfile profile = new LoadProfile();
+        profile.setTargetRps(rps);
+        profile.setRampUpSeconds(rampUp);
+        profile.setSteadySeconds(steady);
+        profile.setRampDownSeconds(rampDown);
+        return profile;
+    }
+
+    private static long countArrivals(ArrivalSchedule schedule) {
+        long k = 0;
+        while (schedule.intendedStartNanos(k) >= 0) {
+            k++;
+        }
+        return k;
+    }
+
+    @Test
+    @DisplayName("Arrivals integrate the rate over all three phases")
+    public void testTotalArrivals() {
+        ArrivalSchedule schedule = new ArrivalSchedule(profile(100, 10, 60, 20));
+
+        // 100 * (10 / 2 + 60 + 20 / 2)
+        assertEquals(7500, countArrivals(schedule));
+    }
+
+    @Test
+    @DisplayName("Steady phase spaces arrivals at 1 / rps")
+    public void testSteadySpacing() {
+        ArrivalSchedule schedule = new ArrivalSchedule(profile(50, 0, 10, 0));
+
+        assertEquals(0, schedule.intendedStartNanos(0));
+        assertEquals(20_000_000L, schedule.intendedStartNanos(1));
+        assertEquals(1_000_000_000L, schedule.intendedStartNanos(50));
+        assertEquals("STEADY", schedule.phaseAt(5_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Arrival times never decrease across phase boundaries")
+    public void testMonotonic() {
+        ArrivalSchedule schedule = new ArrivalSchedule(profile(20, 5, 5, 5));
+
+        long previous = -1;
+        for (long k = 0, t; (t = schedule.intendedStartNanos(k)) >= 0; k++) {
+            assertTrue(t >= previous, "arrival " + k + " went backwards");
+            previous = t;
+        }
+        assertTrue(previous <= 15_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("Duration limit cuts the schedule short")
+    public void testDurationLimit() {
+        LoadProfile limited = profile(10, 0, 60, 0);
+        limited.setMaxDurationSeconds(5);
+        ArrivalSchedule schedule = new ArrivalSchedule(limited);
+
+        assertEquals(51, countArrivals(schedule));
+        assertEquals("DONE", schedule.phaseAt(6_000_000_000L));
+        assertEquals(0, schedule.rateAt(6_000_000_000L));
+    }
+}
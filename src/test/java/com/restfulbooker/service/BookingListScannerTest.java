@@ -0,0 +1,64 @@
+package com.restfulbooker.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingListScannerTest {
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Counts bookings and samples the first ids")
+    public void testCountAndSample() throws IOException {
+        BookingListScanner.Summary summary = BookingListScanner.scan(
+                json("[{\"bookingid\":7},{\"bookingid\":3},{\"bookingid\":12}]"), 2, 1024);
+
+        assertEquals(3, summary.count());
+        assertEquals(0, summary.invalid());
+        assertArrayEquals(new int[]{7, 3}, summary.sampleIds());
+        assertFalse(summary.truncated());
+    }
+
+    @Test
+    @DisplayName("Flags entries without an integer bookingid and skips nested values")
+    public void testInvalidEntries() throws IOException {
+        BookingListScanner.Summary summary = BookingListScanner.scan(
+                json("[{\"bookingid\":1,\"extra\":{\"bookingid\":\"x\"}},{\"bookingid\":\"2\"},{},{\"id\":[1,2]}]"), 5, 1024);
+
+        assertEquals(4, summary.count());
+        assertEquals(3, summary.invalid());
+        assertArrayEquals(new int[]{1}, summary.sampleIds());
+    }
+
+    @Test
+    @DisplayName("Keeps only the first bytes of a large body")
+    public void testTruncatedCapture() throws IOException {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 10_000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"bookingid\":").append(i).append('}');
+        }
+        String list = body.append(']').toString();
+
+        BookingListScanner.Summary summary = BookingListScanner.scan(json(list), 5, 64);
+
+        assertEquals(10_000, summary.count());
+        assertTrue(summary.truncated());
+        assertEquals(list.substring(0, 64), summary.capturedBody());
+        assertEquals(list.length(), summary.totalBytes());
+    }
+
+    @Test
+    @DisplayName("Rejects a body that is not a JSON array")
+    public void testNotAnArray() {
+        assertThrows(IOException.class, () -> BookingListScanner.scan(json("{\"bookingid\":1}"), 5, 64));
+    }
+}
@@ -0,0 +1,82 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.emulator.BookerEmulator;
+import com.restfulbooker.model.SeedResult;
+import com.restfulbooker.payload.BookingPayloads;
+import com.restfulbooker.payload.PayloadProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingSeederTest {
+
+    private static TargetRegistry registry(String baseUrl) {
+        TargetProperties properties = new TargetProperties();
+        properties.setBaseUrl(baseUrl);
+        properties.setUsername("admin");
+        properties.setPassword("password123");
+        return new TargetRegistry(properties, 20, 20, Duration.ofSeconds(30), Duration.ofSeconds(60),
+                Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(1));
+    }
+
+    private static BookingSeeder seeder(TargetRegistry registry) throws IOException {
+        CheckCatalog catalog = new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml")});
+        return new BookingSeeder(registry, new BookingPayloads(new PayloadProperties()), catalog,
+                8, 1, Duration.ofMillis(1), false);
+    }
+
+    @Test
+    @DisplayName("Seeds bookings with bounded concurrency and tears every one of them down")
+    public void testSeedAndTeardown() throws IOException {
+        try (BookerEmulator emulator = BookerEmulator.start(0)) {
+            TargetRegistry registry = registry(emulator.getBaseUrl());
+            BookingSeeder seeder = seeder(registry);
+            BookerTarget target = registry.getDefault();
+            int before = emulator.getBookingCount();
+
+            SeedResult seeded = seeder.seed(target, 200, 64).join();
+
+            assertEquals(200, seeded.getSucceeded());
+            assertEquals(8, seeded.getConcurrency());
+            assertEquals(200, seeded.getTracked());
+            assertEquals(before + 200, emulator.getBookingCount());
+
+            SeedResult removed = seeder.teardown(target, null).join();
+
+            assertEquals(200, removed.getSucceeded());
+            assertEquals(0, removed.getFailed());
+            assertEquals(0, removed.getTracked());
+            assertEquals(before, emulator.getBookingCount());
+            seeder.shutdown();
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Keeps bookings it could not delete tracked for the next teardown")
+    public void testFailedDeletesStayTracked() throws IOException {
+        BookerEmulator emulator = BookerEmulator.start(0);
+        TargetRegistry registry = registry(emulator.getBaseUrl());
+        BookingSeeder seeder = seeder(registry);
+        BookerTarget target = registry.getDefault();
+        assertEquals(10, seeder.seed(target, 10, 4).join().getSucceeded());
+        emulator.close();
+
+        SeedResult failed = seeder.teardown(target, 4).join();
+
+        assertEquals(10, failed.getFailed());
+        assertEquals(10, failed.getRetries());
+        assertEquals(10, failed.getTracked());
+        assertNotNull(failed.getLastError());
+        assertEquals(10, seeder.tracked().get(TargetRegistry.DEFAULT_TARGET));
+        seeder.shutdown();
+        registry.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckCacheTest {
+
+    private CheckCatalog catalog;
+    private final CheckCache cache = new CheckCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    public void loadCatalog() throws IOException {
+        catalog = new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml")});
+    }
+
+    private CompletableFuture<TestResult> run(CompletableFuture<TestResult> pending) {
+        runs.incrementAndGet();
+        return pending;
+    }
+
+    private static TestResult result(CheckStatus status) {
+        return new TestResult.Builder().setStatus(status).build();
+    }
+
+    @Test
+    @DisplayName("Coalesces concurrent requests for a read-only check into one run and serves it until expiry")
+    public void testCoalescesReadOnlyChecks() {
+        CompletableFuture<TestResult> pending = new CompletableFuture<>();
+        List<CompletableFuture<TestResult>> viewers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            viewers.add(cache.get("default", BlockingCheckEngine.NAME, catalog.get("health"), () -> run(pending)));
+        }
+        pending.complete(result(CheckStatus.PASSED));
+
+        assertEquals(1, runs.get());
+        viewers.forEach(viewer -> assertEquals(CheckStatus.PASSED, viewer.join().status()));
+        cache.get("default", BlockingCheckEngine.NAME, catalog.get("health"), () -> run(new CompletableFuture<>()));
+        assertEquals(1, runs.get());
+        cache.get("staging", BlockingCheckEngine.NAME, catalog.get("health"), () -> run(new CompletableFuture<>()));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("Always runs mutating and booking-bound checks, and drops ERROR results")
+    public void testBypassAndErrors() {
+        assertFalse(catalog.get("create-booking").readOnly());
+        assertFalse(catalog.get("get-booking").readOnly());
+        assertTrue(catalog.get("get-bookings-by-name").readOnly());
+        for (int i = 0; i < 3; i++) {
+            cache.get("default", BlockingCheckEngine.NAME, catalog.get("delete-booking"), () -> run(CompletableFuture.completedFuture(result(CheckStatus.PASSED))));
+        }
+        assertEquals(3, runs.get());
+
+        cache.get("default", BlockingCheckEngine.NAME, catalog.get("get-all-bookings"), () -> run(CompletableFuture.completedFuture(result(CheckStatus.ERROR))));
+        cache.get("default", BlockingCheckEngine.NAME, catalog.get("get-all-bookings"), () -> run(CompletableFuture.completedFuture(result(CheckStatus.PASSED))));
+        cache.get("default", BlockingCheckEngine.NAME, catalog.get("get-all-bookings"), () -> run(CompletableFuture.completedFuture(result(CheckStatus.PASSED))));
+        assertEquals(5, runs.get());
+    }
+
+    @Test
+    @DisplayName("Keeps each engine's results apart")
+    public void testSeparatesEngines() {
+        cache.get("default", BlockingCheckEngine.NAME, catalog.get("health"),
+                () -> run(CompletableFuture.completedFuture(result(CheckStatus.PASSED))));
+        TestResult reactive = cache.get("default", ReactiveCheckEngine.NAME, catalog.get("health"),
+                () -> run(CompletableFuture.completedFuture(result(CheckStatus.FAILED)))).join();
+
+        assertEquals(2, runs.get());
+        assertEquals(CheckStatus.FAILED, reactive.status());
+        cache.get("default", ReactiveCheckEngine.NAME, catalog.get("health"), () -> run(new CompletableFuture<>()));
+        assertEquals(2, runs.get());
+    }
+}
@@ -0,0 +1,62 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckMetricsTest {
+
+    private static TestResult result(CheckStatus status, int statusCode, long millis) {
+        return new TestResult.Builder()
+                .setTarget("default")
+                .setTestName("Health Check")
+                .setStatus(status)
+                .setStatusCode(statusCode)
+                .setDurationNanos(TimeUnit.MILLISECONDS.toNanos(millis))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Times and counts results per test, status and HTTP status code")
+    public void testTaggedMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CheckMetrics metrics = new CheckMetrics(registry, new double[]{0.5, 0.99}, false);
+
+        metrics.onResult(result(CheckStatus.PASSED, 201, 10));
+        metrics.onResult(result(CheckStatus.PASSED, 201, 30));
+        metrics.onResult(result(CheckStatus.FAILED, 503, 5));
+        metrics.onResult(result(CheckStatus.ERROR, 0, 0));
+
+        Timer passed = registry.get("booker.check")
+                .tags("target", "default", "test", "Health Check", "status", "PASSED", "http_status", "201").timer();
+        assertEquals(2, passed.count());
+        assertEquals(40, passed.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(2, passed.takeSnapshot().percentileValues().length);
+
+        assertEquals(1, registry.get("booker.check.results").tags("status", "FAILED", "http_status", "503")
+                .counter().count());
+        assertEquals(1, registry.get("booker.check.results").tags("status", "ERROR", "http_status", "none")
+                .counter().count());
+        assertEquals(0, registry.get("booker.check").tags("status", "ERROR").timer().count());
+    }
+
+    @Test
+    @DisplayName("Leaves out client-side percentiles when histogram buckets are exported")
+    public void testHistogramMode() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CheckMetrics metrics = new CheckMetrics(registry, new double[]{0.5, 0.99}, true);
+
+        metrics.onResult(result(CheckStatus.PASSED, 201, 10));
+
+        Timer passed = registry.get("booker.check").tags("status", "PASSED").timer();
+        assertEquals(1, passed.count());
+        assertEquals(0, passed.takeSnapshot().percentileValues().length);
+    }
+}
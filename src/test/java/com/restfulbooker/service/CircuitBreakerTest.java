@@ -0,0 +1,68 @@
+package com.restfulbooker.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Opens after consecutive failures and fails fast until the open period ends")
+    public void testOpensAfterThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 10 * SECOND);
+
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        breaker.onSuccess();
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure(SECOND);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(6 * SECOND, breaker.tryAcquire(5 * SECOND));
+        assertEquals(1, breaker.getRejected());
+    }
+
+    @Test
+    @DisplayName("Lets one trial through after the open period and closes or reopens on its outcome")
+    public void testHalfOpenTrial() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 10 * SECOND);
+        breaker.onFailure(0);
+
+        assertEquals(0, breaker.tryAcquire(10 * SECOND));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire(10 * SECOND) > 0);
+        breaker.onFailure(11 * SECOND);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(SECOND, breaker.tryAcquire(20 * SECOND));
+
+        assertEquals(0, breaker.tryAcquire(21 * SECOND));
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.tryAcquire(21 * SECOND));
+    }
+
+    @Test
+    @DisplayName("Retry budget allows the burst, then one retry per 1/ratio checks")
+    public void testRetryBudget() {
+        RetryBudget budget = new RetryBudget(0.25, 2);
+
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+        for (int i = 0; i < 3; i++) {
+            budget.deposit();
+        }
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        assertEquals(2.0, budget.available(), 1e-9);
+    }
+}
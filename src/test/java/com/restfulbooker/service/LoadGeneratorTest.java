@@ -0,0 +1,35 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.model.LoadProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+
+    private static void assertRejected(Consumer<LoadProfile> change, String message) {
+        LoadProfile profile = new LoadProfile();
+        change.accept(profile);
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> LoadGenerator.validate(profile));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertEquals(message, e.getReason());
+    }
+
+    @Test
+    @DisplayName("Rejects profiles that could never send a request")
+    public void testValidate() {
+        LoadGenerator.validate(new LoadProfile());
+
+        assertRejected(profile -> profile.setTargetRps(0), "targetRps must be positive");
+        assertRejected(profile -> profile.setMaxVirtualUsers(0), "maxVirtualUsers must be positive");
+        assertRejected(profile -> profile.setRampUpSeconds(-1), "Durations must not be negative");
+        assertRejected(profile -> profile.setSteadySeconds(-1), "Durations must not be negative");
+        assertRejected(profile -> profile.setRampDownSeconds(-1), "Durations must not be negative");
+        assertRejected(profile -> profile.setMaxDurationSeconds(-1), "Durations must not be negative");
+    }
+}
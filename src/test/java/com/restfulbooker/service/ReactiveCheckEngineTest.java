@@ -0,0 +1,111 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.Application;
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CompiledCheck;
+import com.restfulbooker.emulator.BookerEmulator;
+import com.restfulbooker.model.CheckStatus;
+import com.restfulbooker.model.TestResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReactiveCheckEngineTest {
+
+    // As arguments, since default properties would lose to application.properties
+    private static ConfigurableApplicationContext start(String baseUrl, String... args) {
+        List<String> all = new ArrayList<>(List.of("--spring.main.banner-mode=off", "--logging.level.root=WARN",
+                "--history.enabled=false", "--booker.base-url=" + baseUrl));
+        all.addAll(List.of(args));
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run(all.toArray(String[]::new));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Runs the ten checks with the same outcomes as the blocking engine")
+    public void testSameOutcomesAsBlocking() throws IOException {
+        try (BookerEmulator emulator = BookerEmulator.start(0);
+             ConfigurableApplicationContext context = start(emulator.getBaseUrl())) {
+            CheckCatalog catalog = context.getBean(CheckCatalog.class);
+            CheckEngines engines = context.getBean(CheckEngines.class);
+            BookerTarget target = context.getBean(TargetRegistry.class).getDefault();
+
+            List<List<String>> outcomes = new ArrayList<>();
+            for (String engine : List.of(BlockingCheckEngine.NAME, ReactiveCheckEngine.NAME)) {
+                TestRunContext run = new TestRunContext(target);
+                List<String> outcome = new ArrayList<>();
+                for (ApiCheck check : ApiCheck.values()) {
+                    TestResult result = engines.get(engine).run(catalog.get(check.getId()), run).block();
+                    assertEquals(CheckStatus.PASSED, result.status(), engine + " " + check.getId() + ": " + result.message());
+                    outcome.add(check.getId() + " " + result.statusCode());
+                }
+                outcomes.add(outcome);
+            }
+
+            assertEquals(outcomes.get(0), outcomes.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Keeps thousands of slow checks in flight on two event-loop threads")
+    public void testManyChecksInFlight() throws IOException {
+        HttpServer slow = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        slow.createContext("/auth", exchange -> respond(exchange, 200, "{\"token\":\"abc123\"}"));
+        slow.createContext("/ping", exchange -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 201, "Created");
+        });
+        slow.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        slow.start();
+        try (ConfigurableApplicationContext context = start("http://127.0.0.1:" + slow.getAddress().getPort(),
+                "--checks.engine.reactive.event-loop-threads=2", "--checks.engine.reactive.max-connections=2000")) {
+            ReactiveCheckEngine engine = context.getBean(ReactiveCheckEngine.class);
+            TestRunContext run = new TestRunContext(context.getBean(TargetRegistry.class).getDefault());
+            CompiledCheck health = context.getBean(CheckCatalog.class).get(ApiCheck.HEALTH.getId());
+
+            long startTime = System.nanoTime();
+            List<TestResult> results = Flux.range(0, 2000)
+                    .flatMap(i -> engine.run(health, run), 2000)
+                    .collectList()
+                    .block(Duration.ofSeconds(60));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+            assertEquals(2000, results.size());
+            results.forEach(result -> assertEquals(CheckStatus.PASSED, result.status(), result.message()));
+            // One at a time would take over 16 minutes
+            assertTrue(elapsed.compareTo(Duration.ofSeconds(20)) < 0, "took " + elapsed);
+        } finally {
+            slow.stop(0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.restfulbooker.service;
+
+import com.restfulbooker.check.CheckCatalog;
+import com.restfulbooker.check.CompiledCheck;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticMonitorTest {
+
+    private static CheckCatalog catalog(String extra) throws IOException {
+        return new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml"),
+                new ByteArrayResource(extra.getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public String getFilename() {
+                        return "extra.yaml";
+                    }
+                }});
+    }
+
+    private static int requests(CheckCatalog catalog, String id) {
+        return SyntheticMonitor.requests(catalog, catalog.get(id), SyntheticMonitor.cleanupCheck(catalog));
+    }
+
+    @Test
+    @DisplayName("Counts the booking a probe creates and deletes around the shipped checks")
+    public void testShippedChecks() throws IOException {
+        CheckCatalog catalog = new CheckCatalog(new Resource[]{new ClassPathResource("checks.yaml")});
+
+        assertEquals("delete-booking", SyntheticMonitor.cleanupCheck(catalog).id());
+        assertEquals(1, requests(catalog, "health"));
+        assertEquals(2, requests(catalog, "create-booking"));
+        assertEquals(3, requests(catalog, "get-booking"));
+        assertEquals(2, requests(catalog, "delete-booking"));
+        assertEquals(1, requests(catalog, "get-all-bookings"));
+    }
+
+    @Test
+    @DisplayName("Follows requires chains of checks added through the definitions")
+    public void testDefinedChecks() throws IOException {
+        CheckCatalog catalog = catalog("""
+                checks:
+                  - id: get-booking
+                    name: Get Booking by ID
+                    path: /ping
+                    expect: {status: 201}
+                  - id: check-then-update
+                    name: Check Then Update
+                    method: PATCH
+                    path: /booking/{bookingId}
+                    auth: true
+                    requires: get-booking-twice
+                    body: {firstname: Jane}
+                  - id: get-booking-twice
+                    name: Get Booking Twice
+                    path: /booking/{bookingId}
+                    requires: create-booking
+                """);
+
+        assertEquals(1, requests(catalog, "get-booking"));
+        assertEquals(3, requests(catalog, "get-booking-twice"));
+        assertEquals(4, requests(catalog, "check-then-update"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.restfulbooker.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Allows a full burst, then makes each reservation wait its turn")
+    public void testBurstThenWait() {
+        TokenBucket bucket = new TokenBucket(2.0, 3, 0);
+
+        assertEquals(0, bucket.reserve(1, 0));
+        assertEquals(0, bucket.reserve(2, 0));
+        assertEquals(SECOND / 2, bucket.reserve(1, 0));
+        assertEquals(SECOND, bucket.reserve(1, 0));
+        assertEquals(0, bucket.reserve(1, 3 * SECOND / 2));
+    }
+
+    @Test
+    @DisplayName("Refills no further than the burst size")
+    public void testRefillCapped() {
+        TokenBucket bucket = new TokenBucket(10.0, 2, 0);
+
+        assertEquals(0, bucket.reserve(2, 100 * SECOND));
+        assertEquals(SECOND / 10, bucket.reserve(1, 100 * SECOND));
+    }
+
+    @Test
+    @DisplayName("A large reservation is not overtaken by later small ones")
+    public void testLargeReservationKeepsItsPlace() {
+        TokenBucket bucket = new TokenBucket(1.0, 1, 0);
+
+        assertEquals(0, bucket.reserve(1, 0));
+        assertEquals(3 * SECOND, bucket.reserve(3, 0));
+        assertEquals(3 * SECOND, bucket.reserve(1, SECOND));
+    }
+}
@@ -0,0 +1,113 @@
+package com.restfulbooker.tests;
+
+import com.restfulbooker.emulator.BookerEmulator;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The booker API the functional tests run against, shared by every test in a
+ * run: the base URL (or an emulator started for {@code -Dbooker.emulator=true}),
+ * one auth token fetched up front, and the bookings tests created, deleted when
+ * the run ends. Requests go through {@link #given()} rather than RestAssured's
+ * static base URI, so concurrent tests share nothing mutable.
+ */
+public class Booker implements ExtensionContext.Store.CloseableResource {
+
+    static final String BOOKING = "{\n" +
+            "    \"firstname\": \"John\",\n" +
+            "    \"lastname\": \"Doe\",\n" +
+            "    \"totalprice\": 150,\n" +
+            "    \"depositpaid\": true,\n" +
+            "    \"bookingdates\": {\n" +
+            "        \"checkin\": \"2024-12-01\",\n" +
+            "        \"checkout\": \"2024-12-10\"\n" +
+            "    },\n" +
+            "    \"additionalneeds\": \"Breakfast\"\n" +
+            "}";
+
+    private final BookerEmulator emulator;
+    private final String baseUrl;
+    private final String token;
+    private final Queue<Integer> created = new ConcurrentLinkedQueue<>();
+
+    private Booker(BookerEmulator emulator, String baseUrl) {
+        this.emulator = emulator;
+        this.baseUrl = baseUrl;
+        this.token = RestAssured.given()
+                .baseUri(baseUrl)
+                .contentType(ContentType.JSON)
+                .body("{\n" +
+                        "    \"username\": \"admin\",\n" +
+                        "    \"password\": \"password123\"\n" +
+                        "}")
+                .when()
+                .post("/auth")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("token");
+        System.out.println("Auth Token: " + token);
+    }
+
+    static Booker start() {
+        // -Pemulator (or -Dbooker.emulator=true) runs the suite against the local stand-in
+        if (Boolean.getBoolean("booker.emulator")) {
+            try {
+                BookerEmulator emulator = BookerEmulator.start(0);
+                return new Booker(emulator, emulator.getBaseUrl());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new Booker(null, System.getProperty("booker.base-url", "https://restful-booker.herokuapp.com"));
+    }
+
+    public RequestSpecification given() {
+        return RestAssured.given().baseUri(baseUrl);
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Creates a booking from {@link #BOOKING} for one test; it is deleted
+     * when the run ends if the test has not deleted it.
+     */
+    public Booking createBooking() {
+        int id = given()
+                .contentType(ContentType.JSON)
+                .body(BOOKING)
+                .when()
+                .post("/booking")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("bookingid");
+        track(id);
+        return new Booking(id);
+    }
+
+    public void track(int bookingId) {
+        created.add(bookingId);
+    }
+
+    @Override
+    public void close() {
+        Integer id;
+        while ((id = created.poll()) != null) {
+            // Tests that deleted their booking get 405 here, which is fine
+            given().header("Cookie", "token=" + token).delete("/booking/" + id).then().extract().asByteArray();
+        }
+        if (emulator != null) {
+            emulator.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.restfulbooker.tests;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Supplies test methods with the shared {@link Booker} and, for a
+ * {@link Booking} parameter, a booking of the test's own. The Booker lives in
+ * the root store, so it is started once however many tests run at the same
+ * time, and closed when the run ends.
+ */
+public class BookerExtension implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BookerExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameter, ExtensionContext context) {
+        Class<?> type = parameter.getParameter().getType();
+        return type == Booker.class || type == Booking.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameter, ExtensionContext context) {
+        Booker booker = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Booker.class, key -> Booker.start(), Booker.class);
+        return parameter.getParameter().getType() == Booking.class ? booker.createBooking() : booker;
+    }
+}
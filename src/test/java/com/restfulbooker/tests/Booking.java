@@ -0,0 +1,5 @@
+package com.restfulbooker.tests;
+
+// A booking created from Booker.BOOKING for the one test that asked for it
+public record Booking(int id) {
+}
@@ -1,60 +1,26 @@
 package com.restfulbooker.tests;
 
-import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
-import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
 
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+// Every test gets its own booking from BookerExtension, so they run concurrently in any order
+@ExtendWith(BookerExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
 public class RestfulBookerTests {
 
-    private static String baseUrl = "https://restful-booker.herokuapp.com";
-    private static String authToken;
-    private static int bookingId;
-
-    @BeforeAll
-    public static void setup() {
-        RestAssured.baseURI = baseUrl;
-
-        // Get authentication token
-        authToken = given()
-                .contentType(ContentType.JSON)
-                .body("{\n" +
-                        "    \"username\": \"admin\",\n" +
-                        "    \"password\": \"password123\"\n" +
-                        "}")
-                .when()
-                .post("/auth")
-                .then()
-                .statusCode(200)
-                .extract()
-                .path("token");
-
-        System.out.println("Auth Token: " + authToken);
-    }
-
     @Test
-    @Order(1)
     @DisplayName("Create a new booking")
-    public void testCreateBooking() {
-        String requestBody = "{\n" +
-                "    \"firstname\": \"John\",\n" +
-                "    \"lastname\": \"Doe\",\n" +
-                "    \"totalprice\": 150,\n" +
-                "    \"depositpaid\": true,\n" +
-                "    \"bookingdates\": {\n" +
-                "        \"checkin\": \"2024-12-01\",\n" +
-                "        \"checkout\": \"2024-12-10\"\n" +
-                "    },\n" +
-                "    \"additionalneeds\": \"Breakfast\"\n" +
-                "}";
-
-        Response response = given()
+    public void testCreateBooking(Booker booker) {
+        Response response = booker.given()
                 .contentType(ContentType.JSON)
-                .body(requestBody)
+                .body(Booker.BOOKING)
                 .when()
                 .post("/booking")
                 .then()
@@ -66,18 +32,18 @@ public class RestfulBookerTests {
                 .extract()
                 .response();
 
-        bookingId = response.path("bookingid");
+        int bookingId = response.path("bookingid");
+        booker.track(bookingId);
         System.out.println("Created Booking ID: " + bookingId);
     }
 
     @Test
-    @Order(2)
     @DisplayName("Get booking by ID")
-    public void testGetBooking() {
-        given()
+    public void testGetBooking(Booker booker, Booking booking) {
+        booker.given()
                 .contentType(ContentType.JSON)
                 .when()
-                .get("/booking/" + bookingId)
+                .get("/booking/" + booking.id())
                 .then()
                 .statusCode(200)
                 .body("firstname", equalTo("John"))
@@ -88,10 +54,9 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(3)
     @DisplayName("Get all bookings")
-    public void testGetAllBookings() {
-        given()
+    public void testGetAllBookings(Booker booker, Booking booking) {
+        booker.given()
                 .contentType(ContentType.JSON)
                 .when()
                 .get("/booking")
@@ -102,10 +67,9 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(4)
     @DisplayName("Get bookings by name filter")
-    public void testGetBookingsByName() {
-        given()
+    public void testGetBookingsByName(Booker booker, Booking booking) {
+        booker.given()
                 .contentType(ContentType.JSON)
                 .queryParam("firstname", "John")
                 .queryParam("lastname", "Doe")
@@ -113,13 +77,12 @@ public class RestfulBookerTests {
                 .get("/booking")
                 .then()
                 .statusCode(200)
-                .body("size()", greaterThanOrEqualTo(0));
+                .body("bookingid", hasItem(booking.id()));
     }
 
     @Test
-    @Order(5)
     @DisplayName("Update booking (PUT)")
-    public void testUpdateBooking() {
+    public void testUpdateBooking(Booker booker, Booking booking) {
         String updateBody = "{\n" +
                 "    \"firstname\": \"Jane\",\n" +
                 "    \"lastname\": \"Smith\",\n" +
@@ -132,12 +95,12 @@ public class RestfulBookerTests {
                 "    \"additionalneeds\": \"Lunch\"\n" +
                 "}";
 
-        given()
+        booker.given()
                 .contentType(ContentType.JSON)
-                .header("Cookie", "token=" + authToken)
+                .header("Cookie", "token=" + booker.token())
                 .body(updateBody)
                 .when()
-                .put("/booking/" + bookingId)
+                .put("/booking/" + booking.id())
                 .then()
                 .statusCode(200)
                 .body("firstname", equalTo("Jane"))
@@ -147,20 +110,19 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(6)
     @DisplayName("Partial update booking (PATCH)")
-    public void testPartialUpdateBooking() {
+    public void testPartialUpdateBooking(Booker booker, Booking booking) {
         String partialUpdate = "{\n" +
                 "    \"firstname\": \"Michael\",\n" +
                 "    \"lastname\": \"Johnson\"\n" +
                 "}";
 
-        given()
+        booker.given()
                 .contentType(ContentType.JSON)
-                .header("Cookie", "token=" + authToken)
+                .header("Cookie", "token=" + booker.token())
                 .body(partialUpdate)
                 .when()
-                .patch("/booking/" + bookingId)
+                .patch("/booking/" + booking.id())
                 .then()
                 .statusCode(200)
                 .body("firstname", equalTo("Michael"))
@@ -168,31 +130,29 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(7)
     @DisplayName("Delete booking")
-    public void testDeleteBooking() {
-        given()
+    public void testDeleteBooking(Booker booker, Booking booking) {
+        booker.given()
                 .contentType(ContentType.JSON)
-                .header("Cookie", "token=" + authToken)
+                .header("Cookie", "token=" + booker.token())
                 .when()
-                .delete("/booking/" + bookingId)
+                .delete("/booking/" + booking.id())
                 .then()
                 .statusCode(201);
 
         // Verify deletion
-        given()
+        booker.given()
                 .contentType(ContentType.JSON)
                 .when()
-                .get("/booking/" + bookingId)
+                .get("/booking/" + booking.id())
                 .then()
                 .statusCode(404);
     }
 
     @Test
-    @Order(8)
     @DisplayName("Health check ping")
-    public void testHealthCheck() {
-        given()
+    public void testHealthCheck(Booker booker) {
+        booker.given()
                 .when()
                 .get("/ping")
                 .then()
@@ -200,14 +160,13 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(9)
     @DisplayName("Create booking with invalid data")
-    public void testCreateBookingWithInvalidData() {
+    public void testCreateBookingWithInvalidData(Booker booker) {
         String invalidBody = "{\n" +
                 "    \"firstname\": \"Test\"\n" +
                 "}";
 
-        given()
+        booker.given()
                 .contentType(ContentType.JSON)
                 .body(invalidBody)
                 .when()
@@ -217,10 +176,9 @@ public class RestfulBookerTests {
     }
 
     @Test
-    @Order(10)
     @DisplayName("Get non-existent booking")
-    public void testGetNonExistentBooking() {
-        given()
+    public void testGetNonExistentBooking(Booker booker) {
+        booker.given()
                 .contentType(ContentType.JSON)
                 .when()
                 .get("/booking/999999")